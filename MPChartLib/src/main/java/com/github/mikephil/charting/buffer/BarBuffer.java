@@ -3,6 +3,9 @@ package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.utils.Transformer;
+
+import java.util.Arrays;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
 
@@ -14,10 +17,57 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** true if only the entries between mFrom and mTo are fed */
+    protected boolean mLimited = false;
+
+    /** buffer indices of the first and after the last value written by the last feed */
+    protected int mStart = 0;
+    protected int mEnd = 0;
+
+    /** the array addBar(...) writes to, the buffer or the value rects of the incremental feed */
+    protected float[] mOutput;
+
+    /** value-space rects kept across incremental feeds, same layout as the buffer */
+    protected float[] mValueRects;
+
+    /** buffer index of the first value of each entry, the last used one is the end of the values */
+    protected int[] mEntryOffsets;
+
+    /** x-value of each entry the value rects were computed for, to detect removed entries */
+    protected float[] mEntryX;
+
+    /** number of entries whose value rects are up to date */
+    protected int mValidEntries = 0;
+
+    /** range of entries that changed since the last incremental feed */
+    protected int mDirtyFrom = Integer.MAX_VALUE;
+    protected int mDirtyTo = -1;
+
+    /** range of entries recomputed by the last incremental feed that were not transformed yet */
+    protected int mRecomputedFrom = Integer.MAX_VALUE;
+    protected int mRecomputedTo = -1;
+
+    /** the parameters the value rects were computed with */
+    private float mFedBarWidth = Float.NaN;
+    private float mFedPhaseY = Float.NaN;
+    private boolean mFedInverted = false;
+
+    /** range of entries whose pixels in the buffer are up to date with mPixelMatrix */
+    protected int mPixelFrom = 0;
+    protected int mPixelTo = -1;
+
+    private float[] mPixelMatrix = new float[9];
+    private float[] mMatrixValues = new float[9];
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
         this.mContainsStacks = containsStacks;
+        this.mOutput = buffer;
+    }
+
+    public boolean isContainsStacks() {
+        return mContainsStacks;
     }
 
     public void setBarWidth(float barWidth) {
@@ -32,99 +82,446 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         this.mInverted = inverted;
     }
 
+    /**
+     * Feeds only the entries between the given indices (inclusive). Each bar keeps its position in the
+     * buffer, so the bars of the entry at index i start at buffer index i * 4. Limits are ignored for
+     * buffers containing stacks, whose positions depend on the sizes of all previous stacks.
+     *
+     * @param from
+     * @param to
+     */
+    public void limit(int from, int to) {
+        limitFrom(from);
+        limitTo(to);
+        mLimited = true;
+    }
+
+    /**
+     * Removes the limits set with limit(...), all entries are fed again.
+     */
+    public void clearLimit() {
+        mLimited = false;
+    }
+
+    /**
+     * Returns the buffer index of the first value written by the last feed.
+     *
+     * @return
+     */
+    public int getStart() {
+        return mStart;
+    }
+
+    /**
+     * Returns the buffer index after the last value written by the last feed.
+     *
+     * @return
+     */
+    public int getEnd() {
+        return mEnd;
+    }
+
+    /**
+     * Returns the index of the first entry to feed and sets the index of the buffer to its position.
+     */
+    protected int startFeed() {
+
+        int from = mLimited && !mContainsStacks ? mFrom : 0;
+
+        index = from * 4;
+        mStart = index;
+
+        return from;
+    }
+
+    /**
+     * Returns the number of entries to feed, the entry index after the last one.
+     */
+    protected float feedSize(IBarDataSet data) {
+
+        float size = data.getEntryCount() * phaseX;
+
+        if (mLimited && !mContainsStacks)
+            size = Math.min(size, mTo + 1);
+
+        return size;
+    }
+
+    /**
+     * Records the end of the fed values and resets the index.
+     */
+    protected void endFeed() {
+        mEnd = index;
+        reset();
+    }
+
     protected void addBar(float left, float top, float right, float bottom) {
 
-        buffer[index++] = left;
-        buffer[index++] = top;
-        buffer[index++] = right;
-        buffer[index++] = bottom;
+        mOutput[index++] = left;
+        mOutput[index++] = top;
+        mOutput[index++] = right;
+        mOutput[index++] = bottom;
     }
 
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        // the buffer is overwritten, pixels of incremental feeds have to be transformed again
+        mPixelTo = -1;
+
+        float size = feedSize(data);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = startFeed(); i < size; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
             if(e == null)
                 continue;
 
-            float x = e.getX();
-            float y = e.getY();
-            float[] vals = e.getYVals();
+            feedEntry(e, barWidthHalf);
+        }
+
+        endFeed();
+    }
+
+    /**
+     * Feeds the first count of the given entries, e.g. a snapshot of the visible entries of a DataSet
+     * starting at the given entry index. As with limit(...), the bars of the entry at index i start at
+     * buffer index i * 4 if the buffer contains no stacks, otherwise the bars start at buffer index 0 and
+     * first should be 0. Limits and phaseX are ignored.
+     *
+     * @param entries
+     * @param first   index of the first of the given entries in its DataSet
+     * @param count
+     */
+    public void feed(BarEntry[] entries, int first, int count) {
+
+        mPixelTo = -1;
+
+        index = mContainsStacks ? 0 : first * 4;
+        mStart = index;
+
+        float barWidthHalf = mBarWidth / 2f;
+
+        for (int i = 0; i < count; i++) {
+
+            if (entries[i] != null)
+                feedEntry(entries[i], barWidthHalf);
+        }
+
+        endFeed();
+    }
+
+    /**
+     * Adds the bars of the given entry at the current index.
+     *
+     * @param e
+     * @param barWidthHalf
+     */
+    protected void feedEntry(BarEntry e, float barWidthHalf) {
+
+        float x = e.getX();
+        float y = e.getY();
+        float[] vals = e.getYVals();
+
+        if (!mContainsStacks || vals == null) {
+
+            float left = x - barWidthHalf;
+            float right = x + barWidthHalf;
+            float bottom, top;
+
+            if (mInverted) {
+                bottom = y >= 0 ? y : 0;
+                top = y <= 0 ? y : 0;
+            } else {
+                top = y >= 0 ? y : 0;
+                bottom = y <= 0 ? y : 0;
+            }
+
+            // multiply the height of the rect with the phase
+            if (top > 0)
+                top *= phaseY;
+            else
+                bottom *= phaseY;
 
-            if (!mContainsStacks || vals == null) {
+            addBar(left, top, right, bottom);
+
+        } else {
+
+            float posY = 0f;
+            float negY = -e.getNegativeSum();
+            float yStart = 0f;
+
+            // fill the stack
+            for (int k = 0; k < vals.length; k++) {
+
+                float value = vals[k];
+
+                if (value == 0.0f && (posY == 0.0f || negY == 0.0f)) {
+                    // Take care of the situation of a 0.0 value, which overlaps a non-zero bar
+                    y = value;
+                    yStart = y;
+                } else if (value >= 0.0f) {
+                    y = posY;
+                    yStart = posY + value;
+                    posY = yStart;
+                } else {
+                    y = negY;
+                    yStart = negY + Math.abs(value);
+                    negY += Math.abs(value);
+                }
 
                 float left = x - barWidthHalf;
                 float right = x + barWidthHalf;
                 float bottom, top;
 
                 if (mInverted) {
-                    bottom = y >= 0 ? y : 0;
-                    top = y <= 0 ? y : 0;
+                    bottom = y >= yStart ? y : yStart;
+                    top = y <= yStart ? y : yStart;
                 } else {
-                    top = y >= 0 ? y : 0;
-                    bottom = y <= 0 ? y : 0;
+                    top = y >= yStart ? y : yStart;
+                    bottom = y <= yStart ? y : yStart;
                 }
 
                 // multiply the height of the rect with the phase
-                if (top > 0)
-                    top *= phaseY;
-                else
-                    bottom *= phaseY;
+                top *= phaseY;
+                bottom *= phaseY;
 
                 addBar(left, top, right, bottom);
+            }
+        }
+    }
 
-            } else {
+    /**
+     * Marks the entries between the given indices (inclusive) as changed, their rects are recomputed by
+     * the next incremental feed. Appended entries are detected by feedIncremental(...) itself.
+     *
+     * @param from
+     * @param to
+     */
+    public void invalidateEntries(int from, int to) {
+        mDirtyFrom = Math.min(mDirtyFrom, Math.max(from, 0));
+        mDirtyTo = Math.max(mDirtyTo, to);
+    }
 
-                float posY = 0f;
-                float negY = -e.getNegativeSum();
-                float yStart = 0f;
-
-                // fill the stack
-                for (int k = 0; k < vals.length; k++) {
-
-                    float value = vals[k];
-
-                    if (value == 0.0f && (posY == 0.0f || negY == 0.0f)) {
-                        // Take care of the situation of a 0.0 value, which overlaps a non-zero bar
-                        y = value;
-                        yStart = y;
-                    } else if (value >= 0.0f) {
-                        y = posY;
-                        yStart = posY + value;
-                        posY = yStart;
-                    } else {
-                        y = negY;
-                        yStart = negY + Math.abs(value);
-                        negY += Math.abs(value);
-                    }
-
-                    float left = x - barWidthHalf;
-                    float right = x + barWidthHalf;
-                    float bottom, top;
-
-                    if (mInverted) {
-                        bottom = y >= yStart ? y : yStart;
-                        top = y <= yStart ? y : yStart;
-                    } else {
-                        top = y >= yStart ? y : yStart;
-                        bottom = y <= yStart ? y : yStart;
-                    }
-
-                    // multiply the height of the rect with the phase
-                    top *= phaseY;
-                    bottom *= phaseY;
-
-                    addBar(left, top, right, bottom);
-                }
+    /**
+     * Discards the value rects and pixels of incremental feeds, all entries are recomputed by the next
+     * one.
+     */
+    public void invalidateAll() {
+        mValidEntries = 0;
+        mDirtyFrom = Integer.MAX_VALUE;
+        mDirtyTo = -1;
+        mPixelTo = -1;
+    }
+
+    /**
+     * Returns true if the value rects of all entries of the given DataSet fit into the buffer.
+     *
+     * @param data
+     * @return
+     */
+    public boolean fits(IBarDataSet data) {
+        int stackSize = mContainsStacks ? Math.max(data.getStackSize(), 1) : 1;
+        return data.getEntryCount() * 4 * stackSize <= buffer.length;
+    }
+
+    /**
+     * Updates the value-space rects of all entries of the given DataSet, keeping them across calls. Only
+     * entries appended since the last call and entries marked with invalidateEntries(...) are recomputed.
+     * Entries removed from the front, e.g. of a sliding window, are dropped by moving the kept rects.
+     * Everything is recomputed if the bar width, phaseY or inversion changed or the entries do not match
+     * the last call anymore, which is checked by the x-values of the first and the last previously fed
+     * entry. Other changes, e.g. entries replaced in the middle, must be reported with
+     * invalidateEntries(...) or invalidateAll(). The rects are transformed into the buffer with
+     * transformIncremental(...). phaseX is ignored, the renderer uses feed(...) while animating x.
+     *
+     * @param data
+     */
+    public void feedIncremental(IBarDataSet data) {
+
+        int count = data.getEntryCount();
+
+        if (mValueRects == null) {
+            mValueRects = new float[buffer.length];
+            mEntryOffsets = new int[buffer.length / 4 + 1];
+            mEntryX = new float[buffer.length / 4 + 1];
+        }
+
+        if (mFedBarWidth != mBarWidth
+                || mFedPhaseY != phaseY
+                || mFedInverted != mInverted) {
+
+            invalidateAll();
+
+            mFedBarWidth = mBarWidth;
+            mFedPhaseY = phaseY;
+            mFedInverted = mInverted;
+
+        } else if (mValidEntries > 0) {
+
+            int removed = count > 0 ? findRemovedFromFront(data.getEntryForIndex(0)) : -1;
+            int kept = mValidEntries - removed;
+
+            if (removed < 0
+                    || kept > count
+                    || !isSameX(data.getEntryForIndex(kept - 1), mEntryX[mValidEntries - 1]))
+                invalidateAll();
+            else if (removed > 0)
+                dropFront(removed);
+        }
+
+        int from = Math.min(mDirtyFrom, mValidEntries);
+        int dirtyTo = Math.min(mDirtyTo, mValidEntries - 1);
+
+        mOutput = mValueRects;
+        index = mEntryOffsets[from];
+
+        float barWidthHalf = mBarWidth / 2f;
+
+        for (int i = from; i < count; i++) {
+
+            // unchanged entries between the changed and the appended ones keep their rects as long as
+            // the changed stacks kept their size
+            if (i > dirtyTo && i < mValidEntries && index == mEntryOffsets[i]) {
+                i = mValidEntries - 1;
+                index = mEntryOffsets[mValidEntries];
+                continue;
             }
+
+            mEntryOffsets[i] = index;
+
+            BarEntry e = data.getEntryForIndex(i);
+
+            mEntryX[i] = e != null ? e.getX() : Float.NaN;
+
+            if (e != null)
+                feedEntry(e, barWidthHalf);
+        }
+
+        if (from < count) {
+            mEntryOffsets[count] = index;
+            mRecomputedFrom = Math.min(mRecomputedFrom, from);
+            mRecomputedTo = Math.max(mRecomputedTo, count - 1);
         }
 
+        mOutput = buffer;
+        mValidEntries = count;
+        mDirtyFrom = Integer.MAX_VALUE;
+        mDirtyTo = -1;
         reset();
     }
+
+    /**
+     * Returns the number of previously fed entries in front of the given new first entry, -1 if it is
+     * none of them.
+     */
+    private int findRemovedFromFront(BarEntry first) {
+
+        if (first == null)
+            return -1;
+
+        for (int i = 0; i < mValidEntries; i++) {
+            if (Float.compare(mEntryX[i], first.getX()) == 0)
+                return i;
+        }
+
+        return -1;
+    }
+
+    private static boolean isSameX(BarEntry e, float x) {
+        return e == null ? Float.isNaN(x) : Float.compare(e.getX(), x) == 0;
+    }
+
+    /**
+     * Drops the value rects of the given number of entries from the front, the following entries move
+     * to the front keeping their rects. The pixels have to be transformed again.
+     */
+    private void dropFront(int removed) {
+
+        int start = mEntryOffsets[removed];
+        int kept = mValidEntries - removed;
+
+        System.arraycopy(mValueRects, start, mValueRects, 0, mEntryOffsets[mValidEntries] - start);
+        System.arraycopy(mEntryX, removed, mEntryX, 0, kept);
+
+        for (int i = 0; i <= kept; i++) {
+            mEntryOffsets[i] = mEntryOffsets[i + removed] - start;
+        }
+
+        // the range of invalidateEntries(...) already refers to the current indices
+        mValidEntries = kept;
+
+        // recomputed entries are transformed with the rest
+        mRecomputedFrom = Integer.MAX_VALUE;
+        mRecomputedTo = -1;
+        mPixelTo = -1;
+    }
+
+    /**
+     * Transforms the value rects of the entries between the given indices (inclusive) into the buffer.
+     * If the value-to-pixel matrix did not change since the last call, only the entries recomputed by
+     * feedIncremental(...) and the ones not transformed yet are. getStart() and getEnd() afterwards
+     * return the range of the given entries in the buffer.
+     *
+     * @param trans
+     * @param from
+     * @param to
+     */
+    public void transformIncremental(Transformer trans, int from, int to) {
+
+        from = Math.max(from, 0);
+        to = Math.min(to, mValidEntries - 1);
+
+        if (to < from) {
+            mStart = mEnd = 0;
+            return;
+        }
+
+        trans.getValueToPixelMatrix().getValues(mMatrixValues);
+
+        if (mPixelTo < mPixelFrom
+                || !Arrays.equals(mMatrixValues, mPixelMatrix)
+                || from > mPixelTo + 1 || to < mPixelFrom - 1) {
+
+            System.arraycopy(mMatrixValues, 0, mPixelMatrix, 0, 9);
+            transformEntries(trans, from, to);
+
+            mPixelFrom = from;
+            mPixelTo = to;
+
+        } else {
+
+            int recomputedFrom = Math.max(mRecomputedFrom, mPixelFrom);
+            int recomputedTo = Math.min(mRecomputedTo, mPixelTo);
+
+            if (recomputedFrom <= recomputedTo)
+                transformEntries(trans, recomputedFrom, recomputedTo);
+
+            if (from < mPixelFrom)
+                transformEntries(trans, from, mPixelFrom - 1);
+
+            if (to > mPixelTo)
+                transformEntries(trans, mPixelTo + 1, to);
+
+            mPixelFrom = Math.min(mPixelFrom, from);
+            mPixelTo = Math.max(mPixelTo, to);
+        }
+
+        mRecomputedFrom = Integer.MAX_VALUE;
+        mRecomputedTo = -1;
+
+        mStart = mEntryOffsets[from];
+        mEnd = mEntryOffsets[to + 1];
+    }
+
+    private void transformEntries(Transformer trans, int from, int to) {
+
+        int start = mEntryOffsets[from];
+        int end = mEntryOffsets[to + 1];
+
+        System.arraycopy(mValueRects, start, buffer, start, end - start);
+        trans.pointValuesToPixel(buffer, start, end);
+    }
 }
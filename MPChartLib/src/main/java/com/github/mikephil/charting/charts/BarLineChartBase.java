@@ -14,6 +14,9 @@ import android.util.AttributeSet;
 import android.util.Log;
 import android.view.MotionEvent;
 
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.LegendEntry;
+import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
@@ -29,6 +32,8 @@ import com.github.mikephil.charting.jobs.MoveViewJob;
 import com.github.mikephil.charting.jobs.ZoomJob;
 import com.github.mikephil.charting.listener.BarLineChartTouchListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
+import com.github.mikephil.charting.renderer.DataTileCache;
+import com.github.mikephil.charting.renderer.LayerCompositor;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
@@ -57,6 +62,21 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected boolean mAutoScaleMinMaxEnabled = false;
 
+    /**
+     * bitmap tiles of the data layer that are reused while dragging, null if disabled
+     */
+    protected DataTileCache mDataTileCache = null;
+
+    /**
+     * records and replays the layers that do not depend on the data, null if disabled
+     */
+    protected LayerCompositor mLayerCompositor = null;
+
+    /**
+     * buffer for the state of a layer
+     */
+    private LayerCompositor.State mLayerState = new LayerCompositor.State();
+
     /**
      * flag that indicates if pinch-zoom is enabled. if true, both x and y axis
      * can be scaled with 2 fingers, if false, x and y axis can be scaled
@@ -192,10 +212,10 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mData == null)
             return;
 
-        long starttime = System.currentTimeMillis();
+        if (drawWithHighlightOverlay(canvas))
+            return;
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
+        long starttime = System.currentTimeMillis();
 
         if (mAutoScaleMinMaxEnabled) {
             autoScale();
@@ -210,27 +230,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
-        mXAxisRenderer.renderAxisLine(canvas);
-        mAxisRendererLeft.renderAxisLine(canvas);
-        mAxisRendererRight.renderAxisLine(canvas);
-
-        if (mXAxis.isDrawGridLinesBehindDataEnabled())
-            mXAxisRenderer.renderGridLines(canvas);
-
-        if (mAxisLeft.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererLeft.renderGridLines(canvas);
-
-        if (mAxisRight.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererRight.renderGridLines(canvas);
-
-        if (mXAxis.isEnabled() && mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
-
-        if (mAxisLeft.isEnabled() && mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
-
-        if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
+        // execute all drawing commands
+        drawLayer(canvas, LAYER_BACKGROUND);
 
         int clipRestoreCount = canvas.save();
 
@@ -239,19 +240,17 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             canvas.clipRect(mViewPortHandler.getContentRect());
         }
 
-        mRenderer.drawData(canvas);
-
-        if (!mXAxis.isDrawGridLinesBehindDataEnabled())
-            mXAxisRenderer.renderGridLines(canvas);
-
-        if (!mAxisLeft.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererLeft.renderGridLines(canvas);
+        if (mDataTileCache != null && mDataTileCache.draw(canvas, mRenderer)) {
+            // the tiles may have been rendered for another viewport than the values are drawn for
+            mRenderer.prepareValues();
+        } else {
+            mRenderer.drawData(canvas);
+        }
 
-        if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererRight.renderGridLines(canvas);
+        drawLayer(canvas, LAYER_GRID);
 
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (valuesToHighlight() && !mDrawingOverlayBase)
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
         // Removes clipping rectangle
@@ -259,18 +258,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         mRenderer.drawExtras(canvas);
 
-        if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
-
-        if (mAxisLeft.isEnabled() && !mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
-
-        if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
-
-        mXAxisRenderer.renderAxisLabels(canvas);
-        mAxisRendererLeft.renderAxisLabels(canvas);
-        mAxisRendererRight.renderAxisLabels(canvas);
+        drawLayer(canvas, LAYER_FOREGROUND);
 
         if (isClipValuesToContentEnabled()) {
             clipRestoreCount = canvas.save();
@@ -283,11 +271,10 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mRenderer.drawValues(canvas);
         }
 
-        mLegendRenderer.renderLegend(canvas);
+        drawLayer(canvas, LAYER_LEGEND);
 
-        drawDescription(canvas);
-
-        drawMarkers(canvas);
+        if (!mDrawingOverlayBase)
+            drawMarkers(canvas);
 
         if (mLogEnabled) {
             long drawtime = (System.currentTimeMillis() - starttime);
@@ -299,6 +286,24 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         }
     }
 
+    @Override
+    protected void drawHighlightOverlay(Canvas canvas) {
+
+        if (valuesToHighlight()) {
+
+            int clipRestoreCount = canvas.save();
+
+            if (isClipDataToContentEnabled())
+                canvas.clipRect(mViewPortHandler.getContentRect());
+
+            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+            canvas.restoreToCount(clipRestoreCount);
+        }
+
+        drawMarkers(canvas);
+    }
+
     /**
      * RESET PERFORMANCE TRACKING FIELDS
      */
@@ -307,6 +312,251 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         drawCycles = 0;
     }
 
+    /**
+     * grid background, axis lines and everything drawn behind the data
+     */
+    protected static final int LAYER_BACKGROUND = 0;
+
+    /**
+     * grid lines drawn in front of the data
+     */
+    protected static final int LAYER_GRID = 1;
+
+    /**
+     * limit lines drawn in front of the data and the axis labels
+     */
+    protected static final int LAYER_FOREGROUND = 2;
+
+    /**
+     * legend and description
+     */
+    protected static final int LAYER_LEGEND = 3;
+
+    /**
+     * Draws the given layer, from the recording of the layer compositor if layer caching is enabled.
+     *
+     * @param c
+     * @param layer
+     */
+    protected void drawLayer(Canvas c, int layer) {
+
+        if (mLayerCompositor == null) {
+            renderLayer(c, layer);
+            return;
+        }
+
+        Canvas recording = mLayerCompositor.beginLayer(layer, fillLayerState(layer, mLayerState.clear()),
+                getWidth(), getHeight());
+
+        if (recording != null) {
+            renderLayer(recording, layer);
+            mLayerCompositor.endLayer(layer);
+        }
+
+        mLayerCompositor.drawLayer(layer, c);
+    }
+
+    /**
+     * Renders the content of the given layer.
+     *
+     * @param c
+     * @param layer
+     */
+    protected void renderLayer(Canvas c, int layer) {
+
+        switch (layer) {
+            case LAYER_BACKGROUND:
+
+                drawGridBackground(c);
+
+                mXAxisRenderer.renderAxisLine(c);
+                mAxisRendererLeft.renderAxisLine(c);
+                mAxisRendererRight.renderAxisLine(c);
+
+                if (mXAxis.isDrawGridLinesBehindDataEnabled())
+                    mXAxisRenderer.renderGridLines(c);
+
+                if (mAxisLeft.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderGridLines(c);
+
+                if (mAxisRight.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererRight.renderGridLines(c);
+
+                if (mXAxis.isEnabled() && mXAxis.isDrawLimitLinesBehindDataEnabled())
+                    mXAxisRenderer.renderLimitLines(c);
+
+                if (mAxisLeft.isEnabled() && mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderLimitLines(c);
+
+                if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererRight.renderLimitLines(c);
+                break;
+
+            case LAYER_GRID:
+
+                if (!mXAxis.isDrawGridLinesBehindDataEnabled())
+                    mXAxisRenderer.renderGridLines(c);
+
+                if (!mAxisLeft.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderGridLines(c);
+
+                if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererRight.renderGridLines(c);
+                break;
+
+            case LAYER_FOREGROUND:
+
+                if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
+                    mXAxisRenderer.renderLimitLines(c);
+
+                if (mAxisLeft.isEnabled() && !mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderLimitLines(c);
+
+                if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererRight.renderLimitLines(c);
+
+                mXAxisRenderer.renderAxisLabels(c);
+                mAxisRendererLeft.renderAxisLabels(c);
+                mAxisRendererRight.renderAxisLabels(c);
+                break;
+
+            case LAYER_LEGEND:
+
+                mLegendRenderer.renderLegend(c);
+
+                drawDescription(c);
+                break;
+        }
+    }
+
+    /**
+     * Adds everything the given layer depends on to the given state. If any of it changes, the layer
+     * is recorded again.
+     *
+     * @param layer
+     * @param state
+     * @return the given state
+     */
+    protected LayerCompositor.State fillLayerState(int layer, LayerCompositor.State state) {
+
+        state.add(getWidth()).add(getHeight());
+
+        RectF content = mViewPortHandler.getContentRect();
+        state.add(content.left).add(content.top).add(content.right).add(content.bottom);
+
+        if (layer == LAYER_LEGEND) {
+            addLegendState(state);
+            return state;
+        }
+
+        state.add(mViewPortHandler.getMatrixTouch())
+                .add(mLeftAxisTransformer.getValueMatrix())
+                .add(mRightAxisTransformer.getValueMatrix());
+
+        if (layer == LAYER_BACKGROUND) {
+            state.add(mDrawGridBackground).add(mGridBackgroundPaint.getColor())
+                    .add(mDrawBorders).add(mBorderPaint.getColor()).add(mBorderPaint.getStrokeWidth());
+        }
+
+        addAxisState(state, mXAxis);
+        state.add(mXAxis.getPosition().ordinal()).add(mXAxis.getLabelRotationAngle())
+                .add(mXAxis.isAvoidFirstLastClippingEnabled());
+
+        addYAxisState(state, mAxisLeft);
+        addYAxisState(state, mAxisRight);
+
+        return state;
+    }
+
+    private void addYAxisState(LayerCompositor.State state, YAxis axis) {
+
+        addAxisState(state, axis);
+
+        state.add(axis.getLabelPosition().ordinal()).add(axis.getLabelXOffset())
+                .add(axis.isDrawZeroLineEnabled()).add(axis.getZeroLineColor()).add(axis.getZeroLineWidth())
+                .add(axis.isDrawTopYLabelEntryEnabled()).add(axis.isDrawBottomYLabelEntryEnabled());
+    }
+
+    private void addAxisState(LayerCompositor.State state, AxisBase axis) {
+
+        state.add(axis.isEnabled()).add(axis.getTextColor()).add(axis.getTextSize()).add(axis.getTypeface())
+                .add(axis.getXOffset()).add(axis.getYOffset())
+                .add(axis.isDrawGridLinesEnabled()).add(axis.getGridColor()).add(axis.getGridLineWidth())
+                .add(axis.getGridDashPathEffect())
+                .add(axis.isDrawAxisLineEnabled()).add(axis.getAxisLineColor()).add(axis.getAxisLineWidth())
+                .add(axis.getAxisLineDashPathEffect())
+                .add(axis.isDrawLabelsEnabled()).add(axis.isCenterAxisLabelsEnabled())
+                .add(axis.getValueFormatter())
+                .add(axis.isDrawGridLinesBehindDataEnabled()).add(axis.isDrawLimitLinesBehindDataEnabled());
+
+        state.add(axis.mEntryCount);
+        for (int i = 0; i < axis.mEntryCount; i++)
+            state.add(axis.mEntries[i]);
+
+        for (LimitLine limitLine : axis.getLimitLines()) {
+            state.add(limitLine.isEnabled()).add(limitLine.getLimit()).add(limitLine.getLineColor())
+                    .add(limitLine.getLineWidth()).add(limitLine.getDashPathEffect())
+                    .add(limitLine.getLabel()).add(limitLine.getLabelPosition().ordinal())
+                    .add(limitLine.getTextColor()).add(limitLine.getTextSize()).add(limitLine.getTypeface());
+        }
+    }
+
+    private void addLegendState(LayerCompositor.State state) {
+
+        state.add(mLegend.isEnabled()).add(mLegend.getTextColor()).add(mLegend.getTextSize())
+                .add(mLegend.getTypeface()).add(mLegend.getXOffset()).add(mLegend.getYOffset())
+                .add(mLegend.getHorizontalAlignment().ordinal()).add(mLegend.getVerticalAlignment().ordinal())
+                .add(mLegend.getOrientation().ordinal()).add(mLegend.getDirection().ordinal())
+                .add(mLegend.isDrawInsideEnabled()).add(mLegend.getForm().ordinal()).add(mLegend.getFormSize())
+                .add(mLegend.getFormLineWidth()).add(mLegend.mNeededWidth).add(mLegend.mNeededHeight);
+
+        for (LegendEntry entry : mLegend.getEntries()) {
+            state.add(entry.label).add(entry.formColor).add(entry.form.ordinal())
+                    .add(entry.formSize).add(entry.formLineWidth);
+        }
+
+        state.add(mDescription.isEnabled()).add(mDescription.getText()).add(mDescription.getTextColor())
+                .add(mDescription.getTextSize()).add(mDescription.getTypeface())
+                .add(mDescription.getXOffset()).add(mDescription.getYOffset())
+                .add(mDescription.getTextAlign().ordinal());
+
+        MPPointF position = mDescription.getPosition();
+        if (position != null)
+            state.add(position.x).add(position.y);
+    }
+
+    /**
+     * If enabled, the grid, axes, limit lines, legend and description are recorded once and replayed
+     * on the following draws until the viewport, the axis ranges or their style change. Draws that
+     * only change the data, the highlights or the markers then skip rendering those layers. Call
+     * invalidateLayers() after changing something that is not detected, e.g. the output of an
+     * IAxisValueFormatter.
+     *
+     * @param enabled
+     */
+    public void setLayerCachingEnabled(boolean enabled) {
+        if (enabled && mLayerCompositor == null)
+            mLayerCompositor = new LayerCompositor(4);
+        else if (!enabled)
+            mLayerCompositor = null;
+    }
+
+    /**
+     * @return true if the static layers of the chart are recorded and replayed.
+     * @default false
+     */
+    public boolean isLayerCachingEnabled() {
+        return mLayerCompositor != null;
+    }
+
+    /**
+     * Discards the recordings of the static layers, they are rendered again on the next draw.
+     */
+    public void invalidateLayers() {
+        if (mLayerCompositor != null)
+            mLayerCompositor.invalidate();
+    }
+
     protected void prepareValuePxMatrix() {
 
         if (mLogEnabled)
@@ -332,6 +582,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     @Override
     public void notifyDataSetChanged() {
 
+        invalidateHighlightOverlay();
+
         if (mData == null) {
             if (mLogEnabled)
                 Log.i(LOG_TAG, "Preparing... DATA NOT SET.");
@@ -341,8 +593,16 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
                 Log.i(LOG_TAG, "Preparing...");
         }
 
-        if (mRenderer != null)
+        if (mRenderer != null) {
             mRenderer.initBuffers();
+            mRenderer.invalidateValueLabels();
+        }
+
+        if (mDataTileCache != null)
+            mDataTileCache.clear();
+
+        if (mLayerCompositor != null)
+            mLayerCompositor.invalidate();
 
         calcMinMax();
 
@@ -1613,6 +1873,46 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return mAutoScaleMinMaxEnabled;
     }
 
+    /**
+     * If enabled, the data layer is cached in bitmap tiles while the chart is dragged, so only newly
+     * exposed parts of the data are rendered. Useful for charts with many entries. Has no effect while
+     * the y-axis range changes with the viewport, e.g. with auto scaling enabled. Call
+     * invalidateDataTiles() after changing the style of the DataSets.
+     *
+     * @param enabled
+     */
+    public void setDataTileCacheEnabled(boolean enabled) {
+        if (enabled && mDataTileCache == null)
+            mDataTileCache = new DataTileCache(this);
+        else if (!enabled)
+            mDataTileCache = null;
+    }
+
+    /**
+     * @return true if the data layer is cached in bitmap tiles while dragging.
+     * @default false
+     */
+    public boolean isDataTileCacheEnabled() {
+        return mDataTileCache != null;
+    }
+
+    /**
+     * Returns the tile cache of the data layer, null if it is disabled.
+     *
+     * @return
+     */
+    public DataTileCache getDataTileCache() {
+        return mDataTileCache;
+    }
+
+    /**
+     * Discards the cached tiles of the data layer, they are rendered again on the next draw.
+     */
+    public void invalidateDataTiles() {
+        if (mDataTileCache != null)
+            mDataTileCache.clear();
+    }
+
     @Override
     public void setPaint(Paint p, int which) {
         super.setPaint(p, which);
@@ -347,7 +347,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      * Lets the chart know its underlying data has changed and performs all
      * necessary recalculations. It is crucial that this method is called
      * everytime data is changed dynamically. Not calling this method can lead
-     * to crashes or unexpected behaviour.
+     * to crashes or unexpected behaviour. Implementations must call
+     * invalidateHighlightOverlay().
      */
     public abstract void notifyDataSetChanged();
 
@@ -568,7 +569,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setLastHighlighted(highs);
 
         // redraw the chart
-        invalidate();
+        invalidateHighlight();
     }
 
     /**
@@ -727,7 +728,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
 
         // redraw the chart
-        invalidate();
+        invalidateHighlight();
     }
 
     /**
@@ -818,6 +819,152 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
     }
 
+    /**
+     * flag that indicates if the highlights and markers are drawn on top of a cached bitmap of the chart
+     */
+    private boolean mHighlightOverlayEnabled = false;
+
+    /**
+     * the chart without highlights and markers, used if the highlight overlay is enabled
+     */
+    private Bitmap mOverlayBaseBitmap;
+    private Canvas mOverlayBaseCanvas;
+    private boolean mOverlayBaseValid = false;
+
+    /**
+     * true while the chart is drawn into the bitmap of the highlight overlay, highlights and markers
+     * must not be drawn then
+     */
+    protected boolean mDrawingOverlayBase = false;
+
+    /**
+     * true while the chart is invalidated because only the highlights changed
+     */
+    private boolean mInvalidatingHighlight = false;
+
+    /**
+     * If enabled, the chart keeps a bitmap of everything except the highlights and markers. As long as
+     * only the highlights change (e.g. while dragging to highlight), the bitmap is drawn and only the
+     * highlights and markers are rendered on top of it. Highlights are then drawn above the values,
+     * axis labels and legend. Needs a bitmap of the size of the chart. Has no effect on the PieChart,
+     * which draws the highlighted slices as part of the data.
+     *
+     * @param enabled
+     */
+    public void setHighlightOverlayEnabled(boolean enabled) {
+        mHighlightOverlayEnabled = enabled;
+
+        if (!enabled)
+            releaseOverlayBase();
+    }
+
+    /**
+     * @return true if the highlights are drawn on top of a cached bitmap of the chart.
+     * @default false
+     */
+    public boolean isHighlightOverlayEnabled() {
+        return mHighlightOverlayEnabled;
+    }
+
+    /**
+     * Redraws the chart after the highlights changed, keeping the cached bitmap of the highlight
+     * overlay.
+     */
+    protected void invalidateHighlight() {
+        mInvalidatingHighlight = true;
+        try {
+            invalidate();
+        } finally {
+            mInvalidatingHighlight = false;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        if (!mInvalidatingHighlight)
+            invalidateHighlightOverlay();
+
+        super.invalidate();
+    }
+
+    /**
+     * Marks the cached bitmap of the highlight overlay as stale, it is rendered again on the next draw.
+     * Called by notifyDataSetChanged() and invalidate(), call it if anything the chart draws changes
+     * while only the highlights are redrawn.
+     */
+    public void invalidateHighlightOverlay() {
+        mOverlayBaseValid = false;
+    }
+
+    /**
+     * Draws the chart from the bitmap of the highlight overlay, rendering the bitmap first if the chart
+     * changed, and draws the highlights and markers on top. Returns false if the highlight overlay is
+     * disabled or the chart is currently drawn into the bitmap, onDraw(...) must then draw the chart
+     * itself.
+     *
+     * @param canvas
+     * @return
+     */
+    protected boolean drawWithHighlightOverlay(Canvas canvas) {
+
+        if (!mHighlightOverlayEnabled || mDrawingOverlayBase)
+            return false;
+
+        int width = getWidth();
+        int height = getHeight();
+
+        if (width <= 0 || height <= 0)
+            return false;
+
+        if (mOverlayBaseBitmap == null
+                || mOverlayBaseBitmap.getWidth() != width
+                || mOverlayBaseBitmap.getHeight() != height) {
+
+            mOverlayBaseBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mOverlayBaseCanvas = new Canvas(mOverlayBaseBitmap);
+            mOverlayBaseValid = false;
+        }
+
+        if (!mOverlayBaseValid) {
+
+            mOverlayBaseBitmap.eraseColor(Color.TRANSPARENT);
+
+            mDrawingOverlayBase = true;
+            try {
+                onDraw(mOverlayBaseCanvas);
+            } finally {
+                mDrawingOverlayBase = false;
+            }
+
+            mOverlayBaseValid = true;
+        }
+
+        canvas.drawBitmap(mOverlayBaseBitmap, 0f, 0f, null);
+
+        drawHighlightOverlay(canvas);
+
+        return true;
+    }
+
+    /**
+     * Draws the highlights and markers on top of the bitmap of the highlight overlay.
+     *
+     * @param canvas
+     */
+    protected void drawHighlightOverlay(Canvas canvas) {
+
+        if (valuesToHighlight())
+            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+        drawMarkers(canvas);
+    }
+
+    private void releaseOverlayBase() {
+        mOverlayBaseBitmap = null;
+        mOverlayBaseCanvas = null;
+        mOverlayBaseValid = false;
+    }
+
     /**
      * Returns the actual position in pixels of the MarkerView for the given
      * Highlight object.
@@ -1787,6 +1934,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
         //Log.i(LOG_TAG, "Detaching...");
 
+        releaseOverlayBase();
+
         if (mUnbind)
             unbindDrawables(this);
     }
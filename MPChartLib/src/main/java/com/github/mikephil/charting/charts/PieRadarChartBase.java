@@ -97,9 +97,15 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
 
     @Override
     public void notifyDataSetChanged() {
+
+        invalidateHighlightOverlay();
+
         if (mData == null)
             return;
 
+        if (mRenderer != null)
+            mRenderer.invalidateValueLabels();
+
         calcMinMax();
 
         if (mLegend != null)
@@ -106,9 +106,15 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
     @Override
     public void notifyDataSetChanged() {
+
+        invalidateHighlightOverlay();
+
         if (mData == null)
             return;
 
+        if (mRenderer != null)
+            mRenderer.invalidateValueLabels();
+
         calcMinMax();
 
         mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
@@ -127,6 +133,9 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        if (drawWithHighlightOverlay(canvas))
+            return;
+
 //        if (mYAxis.isEnabled())
 //            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
 
@@ -143,7 +152,7 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
         mRenderer.drawData(canvas);
 
-        if (valuesToHighlight())
+        if (valuesToHighlight() && !mDrawingOverlayBase)
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
         if (mYAxis.isEnabled() && !mYAxis.isDrawLimitLinesBehindDataEnabled())
@@ -157,7 +166,8 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
         drawDescription(canvas);
 
-        drawMarkers(canvas);
+        if (!mDrawingOverlayBase)
+            drawMarkers(canvas);
     }
 
     /**
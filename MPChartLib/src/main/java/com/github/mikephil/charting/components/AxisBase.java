@@ -10,6 +10,7 @@ import com.github.mikephil.charting.formatter.IAxisValueFormatter;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -52,6 +53,29 @@ public abstract class AxisBase extends ComponentBase {
      */
     public int mDecimals;
 
+    /**
+     * maximum number of formatted labels kept, enough for the labels of the neighbouring viewports
+     */
+    private static final int LABEL_CACHE_CAPACITY = 64;
+
+    /**
+     * formatted labels and the bits of their values, written as a ring
+     */
+    private final long[] mLabelCacheValues = new long[LABEL_CACHE_CAPACITY];
+    private final String[] mLabelCacheLabels = new String[LABEL_CACHE_CAPACITY];
+    private int mLabelCacheSize = 0;
+    private int mLabelCacheNext = 0;
+
+    /**
+     * the formatter the cached labels were formatted by
+     */
+    private IAxisValueFormatter mLabelCacheFormatter;
+
+    /**
+     * if true, the labels of custom formatters are cached as well
+     */
+    private boolean mLabelCacheEnabled = false;
+
     /**
      * the number of label entries the axis should have, default 6
      */
@@ -518,8 +542,60 @@ public abstract class AxisBase extends ComponentBase {
 
         if (index < 0 || index >= mEntries.length)
             return "";
-        else
-            return getValueFormatter().getFormattedValue(mEntries[index], this);
+
+        IAxisValueFormatter formatter = getValueFormatter();
+
+        if (!mLabelCacheEnabled && formatter.getClass() != DefaultAxisValueFormatter.class)
+            return formatter.getFormattedValue(mEntries[index], this);
+
+        if (formatter != mLabelCacheFormatter) {
+            invalidateFormattedLabels();
+            mLabelCacheFormatter = formatter;
+        }
+
+        double value = mEntries[index];
+        long bits = Double.doubleToLongBits(value);
+
+        // the labels move between indices while panning, so they are looked up by their value
+        for (int i = 0; i < mLabelCacheSize; i++) {
+            if (mLabelCacheValues[i] == bits)
+                return mLabelCacheLabels[i];
+        }
+
+        String label = formatter.getFormattedValue(value, this);
+
+        mLabelCacheValues[mLabelCacheNext] = bits;
+        mLabelCacheLabels[mLabelCacheNext] = label;
+        mLabelCacheNext = (mLabelCacheNext + 1) % LABEL_CACHE_CAPACITY;
+        mLabelCacheSize = Math.min(mLabelCacheSize + 1, LABEL_CACHE_CAPACITY);
+
+        return label;
+    }
+
+    /**
+     * If enabled, the labels formatted by a custom IAxisValueFormatter are kept and only formatted
+     * again if their value or the formatter changes. The formatter must then not depend on anything
+     * but the value, otherwise invalidateFormattedLabels() has to be called whenever its output
+     * changes. Labels of the default formatter are always cached. Default: false
+     *
+     * @param enabled
+     */
+    public void setLabelCacheEnabled(boolean enabled) {
+        mLabelCacheEnabled = enabled;
+        invalidateFormattedLabels();
+    }
+
+    public boolean isLabelCacheEnabled() {
+        return mLabelCacheEnabled;
+    }
+
+    /**
+     * Discards all cached labels, they are formatted again when they are drawn next.
+     */
+    public void invalidateFormattedLabels() {
+        mLabelCacheSize = 0;
+        mLabelCacheNext = 0;
+        Arrays.fill(mLabelCacheLabels, null);
     }
 
     /**
@@ -537,6 +613,8 @@ public abstract class AxisBase extends ComponentBase {
             mAxisValueFormatter = new DefaultAxisValueFormatter(mDecimals);
         else
             mAxisValueFormatter = f;
+
+        invalidateFormattedLabels();
     }
 
     /**
@@ -2,6 +2,7 @@ package com.github.mikephil.charting.components;
 
 import android.graphics.DashPathEffect;
 import android.graphics.Paint;
+import android.graphics.Typeface;
 
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.FSize;
@@ -642,6 +643,95 @@ public class Legend extends ComponentBase {
         return mCalculatedLineSizes;
     }
 
+    /**
+     * the entries and settings the current dimensions were calculated with, calculateDimensions(...)
+     * is skipped if they did not change
+     */
+    private int mCalculatedEntryCount = -1;
+    private String[] mCalculatedLabels = new String[0];
+    private LegendForm[] mCalculatedForms = new LegendForm[0];
+    private float[] mCalculatedFormSizes = new float[0];
+    private Typeface mCalculatedTypeface;
+    private float mCalculatedTextSize, mCalculatedContentWidth;
+    private float mCalculatedFormSize, mCalculatedStackSpace, mCalculatedFormToTextSpace;
+    private float mCalculatedXEntrySpace, mCalculatedYEntrySpace, mCalculatedMaxSizePercent;
+    private float mCalculatedXOffset, mCalculatedYOffset;
+    private boolean mCalculatedWordWrap;
+    private LegendOrientation mCalculatedOrientation;
+
+    /**
+     * Returns true if the current dimensions were calculated for the current entries, settings, label
+     * paint and available width. The labels, forms and form sizes of the entries are compared, so
+     * entries changed in place are detected as well.
+     *
+     * @param labelpaint
+     * @param viewPortHandler
+     * @return
+     */
+    protected boolean isCalculated(Paint labelpaint, ViewPortHandler viewPortHandler) {
+
+        return isCalculated(mEntries)
+                && mCalculatedTypeface == labelpaint.getTypeface()
+                && mCalculatedTextSize == labelpaint.getTextSize()
+                && (mOrientation == LegendOrientation.VERTICAL
+                || mCalculatedContentWidth == viewPortHandler.contentWidth())
+                && mCalculatedFormSize == mFormSize
+                && mCalculatedStackSpace == mStackSpace
+                && mCalculatedFormToTextSpace == mFormToTextSpace
+                && mCalculatedXEntrySpace == mXEntrySpace
+                && mCalculatedYEntrySpace == mYEntrySpace
+                && mCalculatedMaxSizePercent == mMaxSizePercent
+                && mCalculatedXOffset == mXOffset
+                && mCalculatedYOffset == mYOffset
+                && mCalculatedWordWrap == mWordWrapEnabled
+                && mCalculatedOrientation == mOrientation;
+    }
+
+    private boolean isCalculated(LegendEntry[] entries) {
+
+        if (mCalculatedEntryCount != entries.length)
+            return false;
+
+        for (int i = 0; i < entries.length; i++) {
+
+            LegendEntry e = entries[i];
+            String label = mCalculatedLabels[i];
+
+            if (e.form != mCalculatedForms[i]
+                    || Float.compare(e.formSize, mCalculatedFormSizes[i]) != 0
+                    || (label == null ? e.label != null : !label.equals(e.label)))
+                return false;
+        }
+
+        return true;
+    }
+
+    private void setCalculated(LegendEntry[] entries) {
+
+        int count = entries.length;
+
+        if (mCalculatedLabels.length < count) {
+            mCalculatedLabels = new String[count];
+            mCalculatedForms = new LegendForm[count];
+            mCalculatedFormSizes = new float[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            mCalculatedLabels[i] = entries[i].label;
+            mCalculatedForms[i] = entries[i].form;
+            mCalculatedFormSizes[i] = entries[i].formSize;
+        }
+
+        mCalculatedEntryCount = count;
+    }
+
+    /**
+     * Forces the next call of calculateDimensions(...) to measure the legend again.
+     */
+    public void invalidateDimensions() {
+        mCalculatedEntryCount = -1;
+    }
+
     /**
      * Calculates the dimensions of the Legend. This includes the maximum width
      * and height of a single entry, as well as the total width and height of
@@ -651,6 +741,24 @@ public class Legend extends ComponentBase {
      */
     public void calculateDimensions(Paint labelpaint, ViewPortHandler viewPortHandler) {
 
+        if (isCalculated(labelpaint, viewPortHandler))
+            return;
+
+        setCalculated(mEntries);
+        mCalculatedTypeface = labelpaint.getTypeface();
+        mCalculatedTextSize = labelpaint.getTextSize();
+        mCalculatedContentWidth = viewPortHandler.contentWidth();
+        mCalculatedFormSize = mFormSize;
+        mCalculatedStackSpace = mStackSpace;
+        mCalculatedFormToTextSpace = mFormToTextSpace;
+        mCalculatedXEntrySpace = mXEntrySpace;
+        mCalculatedYEntrySpace = mYEntrySpace;
+        mCalculatedMaxSizePercent = mMaxSizePercent;
+        mCalculatedXOffset = mXOffset;
+        mCalculatedYOffset = mYOffset;
+        mCalculatedWordWrap = mWordWrapEnabled;
+        mCalculatedOrientation = mOrientation;
+
         float defaultFormSize = Utils.convertDpToPixel(mFormSize);
         float stackSpace = Utils.convertDpToPixel(mStackSpace);
         float formToTextSpace = Utils.convertDpToPixel(mFormToTextSpace);
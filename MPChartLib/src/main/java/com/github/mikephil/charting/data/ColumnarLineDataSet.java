@@ -0,0 +1,573 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet that stores the x- and y-values of its entries in two growable float arrays instead of a
+ * list of Entry objects. This needs about 8 bytes per point instead of 40+. Entry objects are only
+ * created on demand (e.g. by getEntryForIndex(...)) and are not backed by the dataset, changing them
+ * does not change the data. Entries are expected to be ordered by their x-value, data objects and icons
+ * of added entries are not stored.
+ */
+public class ColumnarLineDataSet extends LineDataSet {
+
+    /**
+     * the x-values of all entries, only the first mCount values are used
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values of all entries, only the first mCount values are used
+     */
+    protected float[] mYValues;
+
+    /**
+     * the number of entries this DataSet holds
+     */
+    protected int mCount;
+
+    public ColumnarLineDataSet(String label) {
+        this(16, label);
+    }
+
+    /**
+     * @param initialCapacity the number of entries that can be added before the arrays need to grow
+     * @param label
+     */
+    public ColumnarLineDataSet(int initialCapacity, String label) {
+        super(null, label);
+
+        mXValues = new float[Math.max(initialCapacity, 1)];
+        mYValues = new float[Math.max(initialCapacity, 1)];
+        mCount = 0;
+    }
+
+    /**
+     * Creates a new DataSet from the given values, both arrays are copied.
+     *
+     * @param xValues x-values, must be ordered ascending
+     * @param yValues y-values, must have the same length as xValues
+     * @param label
+     */
+    public ColumnarLineDataSet(float[] xValues, float[] yValues, String label) {
+        super(null, label);
+
+        if (xValues.length != yValues.length)
+            throw new IllegalArgumentException("x- and y-values must have the same length");
+
+        mXValues = Arrays.copyOf(xValues, Math.max(xValues.length, 1));
+        mYValues = Arrays.copyOf(yValues, Math.max(yValues.length, 1));
+        mCount = xValues.length;
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates a new DataSet holding the x- and y-values of the given entries.
+     *
+     * @param entries
+     * @param label
+     */
+    public ColumnarLineDataSet(List<Entry> entries, String label) {
+        this(entries == null ? 16 : entries.size(), label);
+
+        setEntries(entries);
+    }
+
+    /**
+     * Returns the x-value of the entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return mXValues[index];
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Appends a new entry with the given values, the x-value must not be lower than the x-value of the
+     * last entry. Updates min and max values.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        ensureCapacity(mCount + 1);
+
+        mXValues[mCount] = x;
+        mYValues[mCount] = y;
+        mCount++;
+
+        calcMinMax(x, y);
+
+        mLodPyramidDirty = true;
+
+        if (mYRangeIndex != null && !mYRangeIndexDirty)
+            mYRangeIndex.set(mCount - 1, y, y);
+    }
+
+    /**
+     * Makes sure the arrays can hold at least the given number of entries without growing.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXValues.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1));
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+    }
+
+    /**
+     * Shrinks the arrays to the number of entries this DataSet holds.
+     */
+    public void trimToSize() {
+
+        int capacity = Math.max(mCount, 1);
+
+        if (capacity < mXValues.length) {
+            mXValues = Arrays.copyOf(mXValues, capacity);
+            mYValues = Arrays.copyOf(mYValues, capacity);
+        }
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        mYRangeIndexDirty = true;
+        mLodPyramidDirty = true;
+        mModificationCount++;
+
+        // called from the super constructor before the arrays exist
+        if (mXValues == null)
+            return;
+
+        for (int i = 0; i < mCount; i++) {
+            calcMinMax(getX(i), getY(i));
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (mYRangeIndex != null) {
+            calcMinMaxYFromRangeIndex(indexFrom, indexTo);
+            return;
+        }
+
+        if (getLodPyramid() != null) {
+            calcMinMaxYFromLodPyramid(indexFrom, indexTo);
+            return;
+        }
+
+        calcMinMaxY(indexFrom, indexTo);
+    }
+
+    @Override
+    protected void calcMinMaxY(int indexFrom, int indexTo) {
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float y = getY(i);
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected void buildLodPyramid() {
+
+        LodPyramid pyramid = new LodPyramid(mCount);
+
+        for (int i = 0; i < mCount; i++) {
+            float y = getY(i);
+            pyramid.set(i, y, y);
+        }
+
+        pyramid.build();
+
+        mLodPyramid = pyramid;
+        mLodPyramidDirty = false;
+    }
+
+    @Override
+    protected void buildYRangeIndex() {
+
+        for (int i = 0; i < mCount; i++) {
+            float y = getY(i);
+            mYRangeIndex.set(i, y, y);
+        }
+    }
+
+    protected void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns a newly created list of entries representing the values of this DataSet. Changes to the
+     * list are not reflected in the DataSet.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getEntries() {
+
+        List<Entry> entries = new ArrayList<>(mCount);
+
+        for (int i = 0; i < mCount; i++) {
+            entries.add(new Entry(getX(i), getY(i)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        mCount = 0;
+
+        if (entries != null) {
+
+            ensureCapacity(entries.size());
+
+            for (Entry e : entries) {
+                mXValues[mCount] = e.getX();
+                mYValues[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(
+                Arrays.copyOf(mXValues, mCount),
+                Arrays.copyOf(mYValues, mCount),
+                getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(toSimpleString());
+        for (int i = 0; i < mCount; i++) {
+            buffer.append("Entry, x: " + getX(i) + " y: " + getY(i) + " ");
+        }
+        return buffer.toString();
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mCount + "\n";
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mCount > 0 && mXValues[mCount - 1] > e.getX()) {
+            insert(getEntryIndex(e.getX(), e.getY(), Rounding.UP), e.getX(), e.getY());
+            calcMinMax(e.getX(), e.getY());
+        } else {
+            addEntry(e.getX(), e.getY());
+        }
+    }
+
+    private void insert(int index, float x, float y) {
+
+        ensureCapacity(mCount + 1);
+
+        System.arraycopy(mXValues, index, mXValues, index + 1, mCount - index);
+        System.arraycopy(mYValues, index, mYValues, index + 1, mCount - index);
+
+        mXValues[index] = x;
+        mYValues[index] = y;
+        mCount++;
+
+        mYRangeIndexDirty = true;
+        mLodPyramidDirty = true;
+        mModificationCount++;
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addEntry(e.getX(), e.getY());
+        return true;
+    }
+
+    /**
+     * Removes the first entry with the x- and y-value of the given entry.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean removeEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        float x = getX(index);
+        float y = getY(index);
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mCount - index - 1);
+        mCount--;
+
+        mYRangeIndexDirty = true;
+        mLodPyramidDirty = true;
+        mModificationCount++;
+
+        // only a removed extreme value can change min and max
+        if (x <= mXMin || x >= mXMax || y <= mYMin || y >= mYMax)
+            calcMinMax();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) > -1;
+    }
+
+    /**
+     * Returns the index of the first entry with the x- and y-value of the given entry, -1 if there is
+     * none.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        float x = e.getX();
+
+        for (int i = lowerBound(x); i < mCount && getX(i) == x; i++) {
+            if (getY(i) == e.getY())
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int getIndexInEntries(int xIndex) {
+
+        int index = lowerBound(xIndex);
+
+        return index < mCount && getX(index) == xIndex ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first entry with an x-value not lower than the given one.
+     */
+    private int lowerBound(float x) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (getX(m) < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return getEntryForIndex(index);
+        return null;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        return new Entry(getX(index), getY(index));
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+
+        if (mCount == 0)
+            return -1;
+
+        int low = 0;
+        int high = mCount - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final float d1 = getX(m) - xValue,
+                    d2 = getX(m + 1) - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                high = m;
+            } else {
+                // We have multiple sequential x-value with same distance
+                if (d1 >= 0.0) {
+                    high = m;
+                } else {
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        float closestXValue = getX(closest);
+        if (rounding == Rounding.UP) {
+            if (closestXValue < xValue && closest < mCount - 1) {
+                ++closest;
+            }
+        } else if (rounding == Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        // Search by closest to y-value, same behaviour as DataSet
+        if (!Float.isNaN(closestToY)) {
+            while (closest > 0 && getX(closest - 1) == closestXValue)
+                closest -= 1;
+
+            float closestYValue = getY(closest);
+            int closestYIndex = closest;
+
+            while (true) {
+                closest += 1;
+                if (closest >= mCount || getX(closest) != closestXValue)
+                    break;
+
+                if (Math.abs(getY(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    closestYValue = closestToY;
+                    closestYIndex = closest;
+                }
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = lowerBound(xValue); i < mCount && getX(i) == xValue; i++) {
+            entries.add(new Entry(getX(i), getY(i)));
+        }
+
+        return entries;
+    }
+}
@@ -1,6 +1,8 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.utils.RangeMinMaxIndex;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,6 +41,36 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * index over the y-values of the entries for calculating the y-range of the visible entries, null
+     * if not enabled
+     */
+    protected RangeMinMaxIndex mYRangeIndex = null;
+
+    /**
+     * true if the y-range index does not match the entries and needs to be rebuilt before it is used
+     */
+    protected boolean mYRangeIndexDirty = true;
+
+    /**
+     * if true, a level-of-detail pyramid is built on notifyDataSetChanged()
+     */
+    protected boolean mLodPyramidEnabled = false;
+
+    /**
+     * the level-of-detail pyramid, null if not enabled
+     */
+    protected LodPyramid mLodPyramid = null;
+
+    /**
+     * true if the entries have changed since the level-of-detail pyramid was built
+     */
+    protected boolean mLodPyramidDirty = true;
+
+    /**
+     * incremented whenever existing entries change through this DataSet, see getModificationCount()
+     */
+    protected int mModificationCount = 0;
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -66,6 +98,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
 
+        mYRangeIndexDirty = true;
+        mLodPyramidDirty = true;
+        mModificationCount++;
+
         if (mEntries == null || mEntries.isEmpty())
             return;
 
@@ -87,6 +123,27 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         if (indexTo < indexFrom) return;
 
+        if (mYRangeIndex != null) {
+            calcMinMaxYFromRangeIndex(indexFrom, indexTo);
+            return;
+        }
+
+        if (getLodPyramid() != null) {
+            calcMinMaxYFromLodPyramid(indexFrom, indexTo);
+            return;
+        }
+
+        calcMinMaxY(indexFrom, indexTo);
+    }
+
+    /**
+     * Updates mYMin and mYMax with the y-values of the entries from indexFrom to indexTo (inclusive).
+     *
+     * @param indexFrom
+     * @param indexTo
+     */
+    protected void calcMinMaxY(int indexFrom, int indexTo) {
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -94,6 +151,193 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
     }
 
+    /**
+     * Enables / disables the level-of-detail pyramid. If enabled, the pyramid is built on
+     * notifyDataSetChanged() and used by the renderers and calcMinMaxY(...) when there are more visible
+     * entries than pixels, so their cost depends on the chart width instead of the number of entries.
+     * Adding or removing entries invalidates the pyramid until notifyDataSetChanged() is called.
+     * Bar charts draw one bar per bucket of entries from the pyramid and do not draw value labels and
+     * icons while they do, as a bar then stands for many entries. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setLodPyramidEnabled(boolean enabled) {
+
+        mLodPyramidEnabled = enabled;
+        mLodPyramid = null;
+
+        if (enabled)
+            buildLodPyramid();
+    }
+
+    public boolean isLodPyramidEnabled() {
+        return mLodPyramidEnabled;
+    }
+
+    /**
+     * Returns the level-of-detail pyramid of this DataSet, null if it is not enabled or does not match
+     * the current entries (e.g. after adding entries without calling notifyDataSetChanged()).
+     *
+     * @return
+     */
+    public LodPyramid getLodPyramid() {
+        return mLodPyramidDirty ? null : mLodPyramid;
+    }
+
+    @Override
+    public void notifyDataSetChanged() {
+        super.notifyDataSetChanged();
+
+        if (mLodPyramidEnabled)
+            buildLodPyramid();
+    }
+
+    /**
+     * Returns a counter that is incremented whenever entries are inserted, removed or replaced through
+     * this DataSet and on notifyDataSetChanged(). Appending entries at the end only increases the entry
+     * count, so caches of the existing entries can be extended instead of rebuilt. Entries modified in
+     * place are only covered after a call to notifyDataSetChanged(). Used by the renderers to tell
+     * whether their caches of the entries are still valid.
+     *
+     * @return
+     */
+    public int getModificationCount() {
+        return mModificationCount;
+    }
+
+    /**
+     * Builds the level-of-detail pyramid from all entries.
+     */
+    protected void buildLodPyramid() {
+
+        LodPyramid pyramid = new LodPyramid(getEntryCount());
+
+        for (int i = 0; i < mEntries.size(); i++) {
+            T e = mEntries.get(i);
+            pyramid.set(i, getEntryYMin(e), getEntryYMax(e));
+        }
+
+        pyramid.build();
+
+        mLodPyramid = pyramid;
+        mLodPyramidDirty = false;
+    }
+
+    /**
+     * Sets mYMin and mYMax to the y-range of the entries from indexFrom to indexTo (inclusive) using
+     * the level-of-detail pyramid for all buckets that lie completely inside the range.
+     *
+     * @param indexFrom
+     * @param indexTo
+     */
+    protected void calcMinMaxYFromLodPyramid(int indexFrom, int indexTo) {
+
+        final int bucketSize = LodPyramid.MIN_BUCKET_SIZE;
+
+        int firstBucket = (indexFrom + bucketSize - 1) / bucketSize;
+        int lastBucket = indexTo == getEntryCount() - 1
+                ? mLodPyramid.getBucketCount(0) - 1
+                : (indexTo + 1) / bucketSize - 1;
+
+        if (firstBucket > lastBucket) {
+            calcMinMaxY(indexFrom, indexTo);
+            return;
+        }
+
+        mYMin = mLodPyramid.getMinY(firstBucket, lastBucket);
+        mYMax = mLodPyramid.getMaxY(firstBucket, lastBucket);
+
+        // the entries before and after the complete buckets
+        calcMinMaxY(indexFrom, firstBucket * bucketSize - 1);
+        calcMinMaxY((lastBucket + 1) * bucketSize, indexTo);
+    }
+
+    /**
+     * Enables / disables the y-range index. If enabled, calcMinMaxY(...) answers the y-range of the
+     * visible entries in O(log n) instead of iterating them, which keeps autoScaleMinMax cheap for
+     * large DataSets. Costs two floats per entry and O(log n) per added entry. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setYRangeIndexEnabled(boolean enabled) {
+
+        if (!enabled)
+            mYRangeIndex = null;
+        else if (mYRangeIndex == null)
+            mYRangeIndex = new RangeMinMaxIndex(getEntryCount());
+
+        mYRangeIndexDirty = true;
+    }
+
+    /**
+     * Returns true if the y-range index is enabled.
+     *
+     * @return
+     */
+    public boolean isYRangeIndexEnabled() {
+        return mYRangeIndex != null;
+    }
+
+    /**
+     * Sets mYMin and mYMax to the y-range of the entries from indexFrom to indexTo (inclusive) using
+     * the y-range index, rebuilds the index first if needed.
+     *
+     * @param indexFrom
+     * @param indexTo
+     */
+    protected void calcMinMaxYFromRangeIndex(int indexFrom, int indexTo) {
+
+        if (mYRangeIndexDirty) {
+            buildYRangeIndex();
+            mYRangeIndexDirty = false;
+        }
+
+        mYMin = mYRangeIndex.getMin(indexFrom, indexTo);
+        mYMax = mYRangeIndex.getMax(indexFrom, indexTo);
+    }
+
+    /**
+     * Sets the y-range of all entries in the y-range index.
+     */
+    protected void buildYRangeIndex() {
+
+        for (int i = 0; i < mEntries.size(); i++) {
+            T e = mEntries.get(i);
+            mYRangeIndex.set(i, getEntryYMin(e), getEntryYMax(e));
+        }
+    }
+
+    /**
+     * Updates the y-range index after the given entry has been appended at the end of the entries.
+     *
+     * @param e
+     */
+    protected void appendToYRangeIndex(T e) {
+
+        if (mYRangeIndex != null && !mYRangeIndexDirty)
+            mYRangeIndex.set(getEntryCount() - 1, getEntryYMin(e), getEntryYMax(e));
+    }
+
+    /**
+     * Returns the lowest y-value of the given entry that is considered by calcMinMaxY(...).
+     *
+     * @param e
+     * @return
+     */
+    protected float getEntryYMin(T e) {
+        return e.getY();
+    }
+
+    /**
+     * Returns the highest y-value of the given entry that is considered by calcMinMaxY(...).
+     *
+     * @param e
+     * @return
+     */
+    protected float getEntryYMax(T e) {
+        return e.getY();
+    }
+
     /**
      * Updates the min and max x and y value of this DataSet based on the given Entry.
      *
@@ -237,6 +481,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (e == null)
             return;
 
+        mLodPyramidDirty = true;
+
         if (mEntries == null) {
             mEntries = new ArrayList<T>();
         }
@@ -246,8 +492,11 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mEntries.add(closestIndex, e);
+            mYRangeIndexDirty = true;
+            mModificationCount++;
         } else {
             mEntries.add(e);
+            appendToYRangeIndex(e);
         }
     }
 
@@ -271,7 +520,14 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        boolean added = values.add(e);
+
+        mLodPyramidDirty = true;
+
+        if (added && values == mEntries)
+            appendToYRangeIndex(e);
+
+        return added;
     }
 
     @Override
@@ -293,8 +549,41 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return removed;
     }
 
+    /**
+     * Returns the position of the provided entry in the DataSets Entry array. Entries are expected to
+     * be ordered by their x-value, so the entries with the x-value of the given entry are found by a
+     * binary search. Falls back to a linear search if the entry is not found there.
+     *
+     * @param e
+     * @return
+     */
     @Override
     public int getEntryIndex(Entry e) {
+
+        if (e == null || mEntries == null)
+            return -1;
+
+        final float x = e.getX();
+        final int size = mEntries.size();
+
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mEntries.get(m).getX() < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        for (int i = low; i < size && mEntries.get(i).getX() == x; i++) {
+            if (mEntries.get(i).equals(e))
+                return i;
+        }
+
+        // the entries are not ordered or do not contain the given one
         return mEntries.indexOf(e);
     }
 
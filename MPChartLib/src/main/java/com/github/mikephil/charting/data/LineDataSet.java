@@ -69,6 +69,11 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     private float mMaximumGapBetweenPoints = 0f;
 
+    /**
+     * if true, the line is decimated per pixel column before drawing
+     */
+    private boolean mDecimationEnabled = false;
+
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -110,6 +115,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDecimationEnabled = mDecimationEnabled;
     }
 
     /**
@@ -422,6 +428,28 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mMaximumGapBetweenPoints;
     }
 
+    /**
+     * If set to true, only the first, last, lowest and highest point of each pixel column are drawn
+     * for linear lines (M4 decimation). This looks the same as drawing all points, but the drawing cost
+     * depends on the chart width instead of the number of visible entries. Useful for datasets with far
+     * more visible entries than pixels. Default: false
+     *
+     * @param enabled
+     */
+    public void setDecimationEnabled(boolean enabled) {
+        mDecimationEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the line is decimated to the first, last, min and max point per pixel column
+     * before drawing.
+     *
+     * @return
+     */
+    public boolean isDecimationEnabled() {
+        return mDecimationEnabled;
+    }
+
     public enum Mode {
         LINEAR,
         STEPPED,
@@ -0,0 +1,239 @@
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed level-of-detail pyramid over the entries of a DataSet. Level 0 groups the entries into
+ * buckets of MIN_BUCKET_SIZE consecutive entries, each further level merges two neighbouring buckets of
+ * the level below, so the bucket size doubles per level. For every bucket the index and y-value of its
+ * lowest and highest entry are stored, the first and last entry follow from the bucket size. The
+ * pyramid needs about a quarter of the memory of the entry values.
+ */
+public class LodPyramid {
+
+    /**
+     * number of entries per bucket on level 0
+     */
+    public static final int MIN_BUCKET_SIZE = 16;
+
+    private final int mEntryCount;
+
+    private final int[][] mMinIndices;
+    private final int[][] mMaxIndices;
+    private final float[][] mMinValues;
+    private final float[][] mMaxValues;
+
+    /**
+     * Creates an empty pyramid for the given number of entries. The values of all entries must be set
+     * with set(...) before build() is called.
+     *
+     * @param entryCount
+     */
+    public LodPyramid(int entryCount) {
+
+        mEntryCount = entryCount;
+
+        int levels = 1;
+        for (int count = bucketCount(entryCount, MIN_BUCKET_SIZE); count > 1; count = (count + 1) / 2)
+            levels++;
+
+        mMinIndices = new int[levels][];
+        mMaxIndices = new int[levels][];
+        mMinValues = new float[levels][];
+        mMaxValues = new float[levels][];
+
+        for (int level = 0, count = bucketCount(entryCount, MIN_BUCKET_SIZE); level < levels;
+             level++, count = (count + 1) / 2) {
+
+            mMinIndices[level] = new int[count];
+            mMaxIndices[level] = new int[count];
+            mMinValues[level] = new float[count];
+            mMaxValues[level] = new float[count];
+        }
+
+        Arrays.fill(mMinIndices[0], -1);
+        Arrays.fill(mMaxIndices[0], -1);
+        Arrays.fill(mMinValues[0], Float.MAX_VALUE);
+        Arrays.fill(mMaxValues[0], -Float.MAX_VALUE);
+    }
+
+    private static int bucketCount(int entryCount, int bucketSize) {
+        return (entryCount + bucketSize - 1) / bucketSize;
+    }
+
+    /**
+     * Sets the lowest and highest y-value of the entry at the given index.
+     *
+     * @param index
+     * @param yMin
+     * @param yMax
+     */
+    public void set(int index, float yMin, float yMax) {
+
+        int bucket = index / MIN_BUCKET_SIZE;
+
+        if (yMin < mMinValues[0][bucket]) {
+            mMinValues[0][bucket] = yMin;
+            mMinIndices[0][bucket] = index;
+        }
+
+        if (yMax > mMaxValues[0][bucket]) {
+            mMaxValues[0][bucket] = yMax;
+            mMaxIndices[0][bucket] = index;
+        }
+    }
+
+    /**
+     * Calculates all levels above level 0 from the values set before.
+     */
+    public void build() {
+
+        for (int level = 1; level < mMinValues.length; level++) {
+
+            int childCount = mMinValues[level - 1].length;
+
+            for (int bucket = 0; bucket < mMinValues[level].length; bucket++) {
+
+                int left = bucket * 2;
+                int right = Math.min(left + 1, childCount - 1);
+
+                int min = mMinValues[level - 1][right] < mMinValues[level - 1][left] ? right : left;
+                int max = mMaxValues[level - 1][right] > mMaxValues[level - 1][left] ? right : left;
+
+                mMinValues[level][bucket] = mMinValues[level - 1][min];
+                mMinIndices[level][bucket] = mMinIndices[level - 1][min];
+                mMaxValues[level][bucket] = mMaxValues[level - 1][max];
+                mMaxIndices[level][bucket] = mMaxIndices[level - 1][max];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries the pyramid was built for.
+     *
+     * @return
+     */
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    public int getLevelCount() {
+        return mMinValues.length;
+    }
+
+    /**
+     * Returns the number of entries per bucket on the given level.
+     *
+     * @param level
+     * @return
+     */
+    public int getBucketSize(int level) {
+        return MIN_BUCKET_SIZE << level;
+    }
+
+    public int getBucketCount(int level) {
+        return mMinValues[level].length;
+    }
+
+    /**
+     * Returns the coarsest level that still has at least one bucket per pixel for the given number of
+     * entries, -1 if even level 0 has fewer buckets than pixels and all entries should be used.
+     *
+     * @param entryCount number of entries in the range that is drawn
+     * @param pixels     number of pixels the range is drawn on
+     * @return
+     */
+    public int getLevelForPixels(int entryCount, float pixels) {
+
+        int level = -1;
+
+        while (level + 1 < getLevelCount() && entryCount / (float) getBucketSize(level + 1) >= pixels)
+            level++;
+
+        return level;
+    }
+
+    /**
+     * Returns the index of the entry with the lowest y-value in the given bucket, -1 if the bucket
+     * holds no comparable values.
+     */
+    public int getBucketMinIndex(int level, int bucket) {
+        return mMinIndices[level][bucket];
+    }
+
+    /**
+     * Returns the index of the entry with the highest y-value in the given bucket, -1 if the bucket
+     * holds no comparable values.
+     */
+    public int getBucketMaxIndex(int level, int bucket) {
+        return mMaxIndices[level][bucket];
+    }
+
+    public float getBucketMinY(int level, int bucket) {
+        return mMinValues[level][bucket];
+    }
+
+    public float getBucketMaxY(int level, int bucket) {
+        return mMaxValues[level][bucket];
+    }
+
+    /**
+     * Returns the lowest y-value of the level 0 buckets from and to (inclusive), using the coarsest
+     * levels that fit into the range.
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMinY(int from, int to) {
+
+        float min = Float.MAX_VALUE;
+
+        for (int level = 0; from <= to; level++, from >>= 1, to >>= 1) {
+
+            if (level == getLevelCount() - 1) {
+                for (int i = from; i <= to; i++)
+                    min = Math.min(min, mMinValues[level][i]);
+                break;
+            }
+
+            if ((from & 1) == 1)
+                min = Math.min(min, mMinValues[level][from++]);
+
+            if ((to & 1) == 0)
+                min = Math.min(min, mMinValues[level][to--]);
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the highest y-value of the level 0 buckets from and to (inclusive), using the coarsest
+     * levels that fit into the range.
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMaxY(int from, int to) {
+
+        float max = -Float.MAX_VALUE;
+
+        for (int level = 0; from <= to; level++, from >>= 1, to >>= 1) {
+
+            if (level == getLevelCount() - 1) {
+                for (int i = from; i <= to; i++)
+                    max = Math.max(max, mMaxValues[level][i]);
+                break;
+            }
+
+            if ((from & 1) == 1)
+                max = Math.max(max, mMaxValues[level][from++]);
+
+            if ((to & 1) == 0)
+                max = Math.max(max, mMaxValues[level][to--]);
+        }
+
+        return max;
+    }
+}
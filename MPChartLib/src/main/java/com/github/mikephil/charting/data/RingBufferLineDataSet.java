@@ -0,0 +1,401 @@
+package com.github.mikephil.charting.data;
+
+import java.util.List;
+
+/**
+ * ColumnarLineDataSet with a fixed capacity for realtime charts. The values are stored in a circular
+ * buffer, appending an entry to a full DataSet evicts the oldest one. Appending and removing the first
+ * entry run in constant time, the y-min and y-max are maintained incrementally by two monotonic deques
+ * instead of iterating all entries. Entries must be added with ascending x-values.
+ */
+public class RingBufferLineDataSet extends ColumnarLineDataSet {
+
+    /**
+     * index in the arrays of the oldest entry
+     */
+    private int mStart = 0;
+
+    /**
+     * array indices of the candidates for the y-min, their y-values are ascending
+     */
+    private IndexDeque mMinDeque;
+
+    /**
+     * array indices of the candidates for the y-max, their y-values are descending
+     */
+    private IndexDeque mMaxDeque;
+
+    /**
+     * number of entries removed from the front by removeFirst(), including evicted ones
+     */
+    private long mRemovedCount = 0;
+
+    /**
+     * @param capacity the maximum number of entries, when exceeded the oldest entries are removed
+     * @param label
+     */
+    public RingBufferLineDataSet(int capacity, String label) {
+        super(capacity, label);
+
+        mMinDeque = new IndexDeque(mXValues.length);
+        mMaxDeque = new IndexDeque(mXValues.length);
+    }
+
+    /**
+     * Returns the maximum number of entries this DataSet can hold.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXValues[toArrayIndex(index)];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYValues[toArrayIndex(index)];
+    }
+
+    /**
+     * Returns the number of entries removed from the front so far, including the ones evicted by
+     * appending to a full DataSet. These removals shift the indices of all remaining entries without
+     * changing them and do not increment the modification count. The entry at index i has been at index
+     * i + (getRemovedCount() - n) when getRemovedCount() returned n, as long as the modification count
+     * is unchanged.
+     *
+     * @return
+     */
+    public long getRemovedCount() {
+        return mRemovedCount;
+    }
+
+    private int toArrayIndex(int index) {
+        int i = mStart + index;
+        return i < mXValues.length ? i : i - mXValues.length;
+    }
+
+    /**
+     * Appends a new entry with the given values, the x-value must not be lower than the x-value of the
+     * last entry. If the DataSet is full, the oldest entry is removed.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void addEntry(float x, float y) {
+
+        if (mCount == mXValues.length)
+            removeFirst();
+
+        int i = toArrayIndex(mCount);
+
+        mXValues[i] = x;
+        mYValues[i] = y;
+        mCount++;
+
+        mLodPyramidDirty = true;
+
+        // the range index is kept by array index, so it stays valid while the buffer wraps around
+        if (mYRangeIndex != null && !mYRangeIndexDirty)
+            mYRangeIndex.set(i, y, y);
+
+        while (!mMinDeque.isEmpty() && mYValues[mMinDeque.peekLast()] >= y)
+            mMinDeque.removeLast();
+        mMinDeque.addLast(i);
+
+        while (!mMaxDeque.isEmpty() && mYValues[mMaxDeque.peekLast()] <= y)
+            mMaxDeque.removeLast();
+        mMaxDeque.addLast(i);
+
+        updateMinMax();
+    }
+
+    @Override
+    public boolean removeFirst() {
+
+        if (mCount == 0)
+            return false;
+
+        if (mMinDeque.peekFirst() == mStart)
+            mMinDeque.removeFirst();
+
+        if (mMaxDeque.peekFirst() == mStart)
+            mMaxDeque.removeFirst();
+
+        mStart = toArrayIndex(1);
+        mCount--;
+
+        mLodPyramidDirty = true;
+        mRemovedCount++;
+
+        updateMinMax();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index == 0)
+            return removeFirst();
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        // removing from the middle or end invalidates the deques, fall back to shifting the values
+        normalize();
+        super.removeEntry(index);
+        calcMinMax();
+
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mCount > 0 && getX(mCount - 1) > e.getX()) {
+
+            if (mCount == mXValues.length)
+                removeFirst();
+
+            normalize();
+            super.addEntryOrdered(e);
+            calcMinMax();
+        } else {
+            addEntry(e.getX(), e.getY());
+        }
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries. If there are
+     * more entries than the capacity, only the last ones are kept.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        mCount = 0;
+        mStart = 0;
+
+        if (entries != null) {
+            for (int i = Math.max(entries.size() - mXValues.length, 0); i < entries.size(); i++) {
+                Entry e = entries.get(i);
+                mXValues[mCount] = e.getX();
+                mYValues[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Does nothing, the capacity of this DataSet is fixed.
+     *
+     * @param capacity
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+    }
+
+    /**
+     * Does nothing, the capacity of this DataSet is fixed.
+     */
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public void clear() {
+        mStart = 0;
+        super.clear();
+    }
+
+    /**
+     * Rebuilds the min/max deques from all entries.
+     */
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        mYRangeIndexDirty = true;
+        mLodPyramidDirty = true;
+        mModificationCount++;
+
+        // called from the super constructor before the arrays exist
+        if (mMinDeque == null)
+            return;
+
+        mMinDeque.clear();
+        mMaxDeque.clear();
+
+        for (int index = 0; index < mCount; index++) {
+
+            int i = toArrayIndex(index);
+            float y = mYValues[i];
+
+            while (!mMinDeque.isEmpty() && mYValues[mMinDeque.peekLast()] >= y)
+                mMinDeque.removeLast();
+            mMinDeque.addLast(i);
+
+            while (!mMaxDeque.isEmpty() && mYValues[mMaxDeque.peekLast()] <= y)
+                mMaxDeque.removeLast();
+            mMaxDeque.addLast(i);
+        }
+
+        updateMinMax();
+    }
+
+    /**
+     * Sets the min and max values from the first and last entry and the heads of the deques.
+     */
+    private void updateMinMax() {
+
+        if (mCount == 0) {
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+            return;
+        }
+
+        mXMin = mXValues[mStart];
+        mXMax = mXValues[toArrayIndex(mCount - 1)];
+        mYMin = mYValues[mMinDeque.peekFirst()];
+        mYMax = mYValues[mMaxDeque.peekFirst()];
+    }
+
+    @Override
+    protected void buildYRangeIndex() {
+
+        for (int index = 0; index < mCount; index++) {
+            int i = toArrayIndex(index);
+            mYRangeIndex.set(i, mYValues[i], mYValues[i]);
+        }
+    }
+
+    @Override
+    protected void calcMinMaxYFromRangeIndex(int indexFrom, int indexTo) {
+
+        if (mYRangeIndexDirty) {
+            buildYRangeIndex();
+            mYRangeIndexDirty = false;
+        }
+
+        int from = toArrayIndex(indexFrom);
+        int to = toArrayIndex(indexTo);
+
+        if (from <= to) {
+            mYMin = mYRangeIndex.getMin(from, to);
+            mYMax = mYRangeIndex.getMax(from, to);
+        } else {
+            // the range wraps around the end of the arrays
+            int last = mXValues.length - 1;
+            mYMin = Math.min(mYRangeIndex.getMin(from, last), mYRangeIndex.getMin(0, to));
+            mYMax = Math.max(mYRangeIndex.getMax(from, last), mYRangeIndex.getMax(0, to));
+        }
+    }
+
+    /**
+     * Rotates the arrays so that the oldest entry is at index 0, which allows the array based
+     * operations of ColumnarLineDataSet to be used.
+     */
+    private void normalize() {
+
+        if (mStart == 0)
+            return;
+
+        rotate(mXValues, mStart);
+        rotate(mYValues, mStart);
+        mStart = 0;
+
+        mYRangeIndexDirty = true;
+        mLodPyramidDirty = true;
+        mModificationCount++;
+    }
+
+    /**
+     * Rotates the given array to the left by the given distance in place.
+     */
+    private static void rotate(float[] values, int distance) {
+        reverse(values, 0, distance - 1);
+        reverse(values, distance, values.length - 1);
+        reverse(values, 0, values.length - 1);
+    }
+
+    private static void reverse(float[] values, int from, int to) {
+        while (from < to) {
+            float tmp = values[from];
+            values[from++] = values[to];
+            values[to--] = tmp;
+        }
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        RingBufferLineDataSet copied = new RingBufferLineDataSet(mXValues.length, getLabel());
+        for (int i = 0; i < mCount; i++) {
+            copied.addEntry(getX(i), getY(i));
+        }
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Fixed-capacity double ended queue of array indices, never holds more indices than the
+     * DataSet has entries.
+     */
+    private static final class IndexDeque {
+
+        private final int[] mIndices;
+        private int mHead = 0;
+        private int mSize = 0;
+
+        IndexDeque(int capacity) {
+            mIndices = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return mSize == 0;
+        }
+
+        void clear() {
+            mHead = 0;
+            mSize = 0;
+        }
+
+        int peekFirst() {
+            return mIndices[mHead];
+        }
+
+        int peekLast() {
+            return mIndices[(mHead + mSize - 1) % mIndices.length];
+        }
+
+        void addLast(int index) {
+            mIndices[(mHead + mSize) % mIndices.length] = index;
+            mSize++;
+        }
+
+        void removeFirst() {
+            mHead = (mHead + 1) % mIndices.length;
+            mSize--;
+        }
+
+        void removeLast() {
+            mSize--;
+        }
+    }
+}
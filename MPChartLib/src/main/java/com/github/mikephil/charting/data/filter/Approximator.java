@@ -4,7 +4,11 @@ package com.github.mikephil.charting.data.filter;
 import android.annotation.TargetApi;
 import android.os.Build;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Implemented according to Wiki-Pseudocode {@link}
@@ -14,6 +18,11 @@ import java.util.Arrays;
  */
 public class Approximator {
 
+    /**
+     * ranges with fewer points are simplified by a single thread
+     */
+    private static final int PARALLEL_THRESHOLD = 8192;
+
     @TargetApi(Build.VERSION_CODES.GINGERBREAD)
     public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
@@ -47,6 +56,179 @@ public class Approximator {
         }
     }
 
+    /**
+     * Same as reduceWithDouglasPeucker(float[], float), but iterative with an explicit stack, so long
+     * series cannot overflow the call stack. Kept points are marked instead of copying the points on
+     * every level, the only large allocation is the result. If a pool is given, independent ranges of
+     * the points are simplified in parallel.
+     *
+     * @param points    x- and y-values of the points, alternating
+     * @param tolerance
+     * @param pool      the pool to simplify the points in parallel, null to use the calling thread
+     * @return
+     */
+    public float[] reduceWithDouglasPeucker(float[] points, float tolerance, ForkJoinPool pool) {
+
+        int pointCount = points.length / 2;
+
+        // only distinct array elements are written from different threads, which is safe for a boolean[]
+        boolean[] keep = new boolean[pointCount];
+        keep[0] = true;
+        keep[pointCount - 1] = true;
+
+        if (pool != null && pointCount > PARALLEL_THRESHOLD)
+            pool.invoke(new SimplifyTask(points, tolerance, keep, 0, pointCount - 1));
+        else
+            simplify(points, tolerance, keep, 0, pointCount - 1);
+
+        int keptCount = 0;
+        for (boolean k : keep) {
+            if (k)
+                keptCount++;
+        }
+
+        float[] result = new float[keptCount * 2];
+
+        for (int i = 0, j = 0; i < pointCount; i++) {
+            if (keep[i]) {
+                result[j++] = points[i * 2];
+                result[j++] = points[i * 2 + 1];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Marks the points between the points first and last (exclusive) that are kept, using a stack of
+     * ranges instead of recursion.
+     */
+    private static void simplify(float[] points, float tolerance, boolean[] keep, int first, int last) {
+
+        int[] stack = new int[32];
+        int size = 0;
+
+        stack[size++] = first;
+        stack[size++] = last;
+
+        while (size > 0) {
+
+            int to = stack[--size];
+            int from = stack[--size];
+
+            int index = findFarthest(points, tolerance, from, to);
+
+            if (index < 0)
+                continue;
+
+            keep[index] = true;
+
+            if (size + 4 > stack.length)
+                stack = Arrays.copyOf(stack, stack.length * 2);
+
+            stack[size++] = index;
+            stack[size++] = to;
+            stack[size++] = from;
+            stack[size++] = index;
+        }
+    }
+
+    /**
+     * Returns the index of the point between from and to (exclusive) with the greatest distance to the
+     * line between them, -1 if no distance exceeds the tolerance.
+     */
+    private static int findFarthest(float[] points, float tolerance, int from, int to) {
+
+        float x1 = points[from * 2];
+        float y1 = points[from * 2 + 1];
+        float x2 = points[to * 2];
+        float y2 = points[to * 2 + 1];
+
+        // same calculation as Line.distance(...)
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        float sxey = x1 * y2;
+        float exsy = x2 * y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        int greatestIndex = -1;
+        float greatestDistance = 0f;
+
+        for (int i = from + 1; i < to; i++) {
+
+            float distance = Math.abs(dy * points[i * 2] - dx * points[i * 2 + 1] + sxey - exsy) / length;
+
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                greatestIndex = i;
+            }
+        }
+
+        return greatestDistance > tolerance ? greatestIndex : -1;
+    }
+
+    /**
+     * Simplifies a range of points, the larger subranges are split off into their own tasks until they
+     * are smaller than PARALLEL_THRESHOLD.
+     */
+    private static class SimplifyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float[] mPoints;
+        private final float mTolerance;
+        private final boolean[] mKeep;
+        private final int mFirst;
+        private final int mLast;
+
+        SimplifyTask(float[] points, float tolerance, boolean[] keep, int first, int last) {
+            mPoints = points;
+            mTolerance = tolerance;
+            mKeep = keep;
+            mFirst = first;
+            mLast = last;
+        }
+
+        @Override
+        protected void compute() {
+
+            List<SimplifyTask> forked = new ArrayList<>();
+
+            int from = mFirst;
+            int to = mLast;
+
+            // continue with the larger side and fork the smaller one, which limits the nesting
+            while (to - from > PARALLEL_THRESHOLD) {
+
+                int index = findFarthest(mPoints, mTolerance, from, to);
+
+                if (index < 0)
+                    break;
+
+                mKeep[index] = true;
+
+                SimplifyTask task;
+
+                if (index - from < to - index) {
+                    task = new SimplifyTask(mPoints, mTolerance, mKeep, from, index);
+                    from = index;
+                } else {
+                    task = new SimplifyTask(mPoints, mTolerance, mKeep, index, to);
+                    to = index;
+                }
+
+                task.fork();
+                forked.add(task);
+            }
+
+            if (to - from <= PARALLEL_THRESHOLD)
+                simplify(mPoints, mTolerance, mKeep, from, to);
+
+            for (SimplifyTask task : forked)
+                task.join();
+        }
+    }
+
     /**
      * Combine arrays.
      *
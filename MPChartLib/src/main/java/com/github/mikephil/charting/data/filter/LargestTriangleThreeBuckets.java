@@ -0,0 +1,212 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reduces a series of points to a given number of points with the Largest-Triangle-Three-Buckets
+ * algorithm (Sveinn Steinarsson, "Downsampling Time Series for Visual Representation", 2013). The
+ * points are split into buckets, from each bucket the point forming the largest triangle with the
+ * previously selected point and the average of the next bucket is kept. First and last point always
+ * stay. Runs in linear time with a single pass over the points, the only allocation is the output.
+ * The points must be ordered by their x-value.
+ */
+public class LargestTriangleThreeBuckets {
+
+    /**
+     * Reduces the given points to the given number of points.
+     *
+     * @param points      x- and y-values of the points, alternating
+     * @param targetCount number of points to keep
+     * @return the x- and y-values of the kept points, the given array if it has not more points than
+     * targetCount or targetCount is lower than 3
+     */
+    public float[] reduce(float[] points, int targetCount) {
+
+        int pointCount = points.length / 2;
+
+        if (targetCount < 3 || targetCount >= pointCount)
+            return points;
+
+        return reduce(points, targetCount, new float[targetCount * 2]);
+    }
+
+    /**
+     * Reduces the given points to the given number of points and writes them to the output array, which
+     * allows reusing it between calls.
+     *
+     * @param points      x- and y-values of the points, alternating
+     * @param targetCount number of points to keep, at least 3 and less than the number of points
+     * @param output      array for the x- and y-values of the kept points, at least targetCount * 2 long
+     * @return the output array
+     */
+    public float[] reduce(final float[] points, int targetCount, final float[] output) {
+
+        select(new Points() {
+            @Override
+            float getX(int index) {
+                return points[index * 2];
+            }
+
+            @Override
+            float getY(int index) {
+                return points[index * 2 + 1];
+            }
+
+            @Override
+            void keep(int index, int position) {
+                output[position * 2] = points[index * 2];
+                output[position * 2 + 1] = points[index * 2 + 1];
+            }
+        }, points.length / 2, targetCount);
+
+        return output;
+    }
+
+    /**
+     * Reduces the entries of the given DataSet to the given number of entries. The kept entries are the
+     * ones returned by getEntryForIndex(...) of the DataSet, a new LineDataSet can be created from them.
+     *
+     * @param dataSet
+     * @param targetCount number of entries to keep
+     * @return the kept entries, all entries if the DataSet has not more entries than targetCount or
+     * targetCount is lower than 3
+     */
+    public List<Entry> reduce(final ILineDataSet dataSet, int targetCount) {
+
+        final int entryCount = dataSet.getEntryCount();
+        final List<Entry> result = new ArrayList<>(Math.min(Math.max(targetCount, 0), entryCount));
+
+        if (targetCount < 3 || targetCount >= entryCount) {
+            for (int i = 0; i < entryCount; i++)
+                result.add(dataSet.getEntryForIndex(i));
+            return result;
+        }
+
+        Points points;
+
+        if (dataSet instanceof ColumnarLineDataSet) {
+
+            // read the values directly instead of creating an entry for each access
+            final ColumnarLineDataSet columnar = (ColumnarLineDataSet) dataSet;
+
+            points = new Points() {
+                @Override
+                float getX(int index) {
+                    return columnar.getX(index);
+                }
+
+                @Override
+                float getY(int index) {
+                    return columnar.getY(index);
+                }
+
+                @Override
+                void keep(int index, int position) {
+                    result.add(columnar.getEntryForIndex(index));
+                }
+            };
+        } else {
+
+            points = new Points() {
+                @Override
+                float getX(int index) {
+                    return dataSet.getEntryForIndex(index).getX();
+                }
+
+                @Override
+                float getY(int index) {
+                    return dataSet.getEntryForIndex(index).getY();
+                }
+
+                @Override
+                void keep(int index, int position) {
+                    result.add(dataSet.getEntryForIndex(index));
+                }
+            };
+        }
+
+        select(points, entryCount, targetCount);
+
+        return result;
+    }
+
+    private void select(Points points, int pointCount, int targetCount) {
+
+        // first and last point are always kept, the others are split into targetCount - 2 buckets
+        final double bucketSize = (double) (pointCount - 2) / (targetCount - 2);
+
+        int selected = 0;
+        points.keep(0, 0);
+
+        int bucketStart = 1;
+        int bucketEnd = (int) Math.floor(bucketSize) + 1;
+
+        for (int bucket = 0; bucket < targetCount - 2; bucket++) {
+
+            // average of the next bucket, the last point for the last bucket
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, pointCount);
+
+            if (nextStart >= nextEnd) {
+                nextStart = pointCount - 1;
+                nextEnd = pointCount;
+            }
+
+            float avgX = 0f;
+            float avgY = 0f;
+
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += points.getX(i);
+                avgY += points.getY(i);
+            }
+
+            avgX /= nextEnd - nextStart;
+            avgY /= nextEnd - nextStart;
+
+            // the point of the current bucket forming the largest triangle
+            float ax = points.getX(selected);
+            float ay = points.getY(selected);
+
+            float maxArea = -1f;
+            int maxIndex = bucketStart;
+
+            for (int i = bucketStart; i < bucketEnd; i++) {
+
+                float area = Math.abs((ax - avgX) * (points.getY(i) - ay) - (ax - points.getX(i)) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected = maxIndex;
+            points.keep(selected, bucket + 1);
+
+            bucketStart = bucketEnd;
+            bucketEnd = nextEnd;
+        }
+
+        points.keep(pointCount - 1, targetCount - 1);
+    }
+
+    /**
+     * Access to the points that are reduced and the output of the kept points.
+     */
+    private static abstract class Points {
+
+        abstract float getX(int index);
+
+        abstract float getY(int index);
+
+        /**
+         * Called with the index of every kept point and its position in the result, in order.
+         */
+        abstract void keep(int index, int position);
+    }
+}
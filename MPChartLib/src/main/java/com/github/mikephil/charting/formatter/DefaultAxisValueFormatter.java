@@ -15,6 +15,13 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat without going through it for most values, recreated when mFormat is
+     * replaced. Changes made to mFormat in place (e.g. its symbols) are only picked up after
+     * assigning a new DecimalFormat.
+     */
+    protected FastNumberFormat mFastFormat;
+
     /**
      * the number of decimal digits this formatter uses
      */
@@ -29,20 +36,14 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
     public DefaultAxisValueFormatter(int digits) {
         this.digits = digits;
 
-        StringBuffer b = new StringBuffer();
-        for (int i = 0; i < digits; i++) {
-            if (i == 0)
-                b.append(".");
-            b.append("0");
-        }
-
-        mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mFormat = new DecimalFormat(FastNumberFormat.getPattern(digits));
+        mFastFormat = new FastNumberFormat(mFormat);
     }
 
     @Override
     public String getFormattedValue(double value, AxisBase axis) {
         // avoid memory allocations here (for performance)
-        return mFormat.format(value);
+        return getFastFormat().format(value);
     }
 
     /**
@@ -53,4 +54,17 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
     public int getDecimalDigits() {
         return digits;
     }
+
+    /**
+     * Returns the fast format for mFormat, recreates it if mFormat has been replaced.
+     *
+     * @return
+     */
+    protected FastNumberFormat getFastFormat() {
+
+        if (mFastFormat == null || mFastFormat.getDecimalFormat() != mFormat)
+            mFastFormat = new FastNumberFormat(mFormat);
+
+        return mFastFormat;
+    }
 }
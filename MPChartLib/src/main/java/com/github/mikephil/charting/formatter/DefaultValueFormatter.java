@@ -7,8 +7,8 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
 import java.text.DecimalFormat;
 
 /**
- * Default formatter used for formatting values inside the chart. Uses a DecimalFormat with
- * pre-calculated number of digits (depending on max and min value).
+ * Default formatter used for formatting values inside the chart. Formats like a DecimalFormat with
+ * pre-calculated number of digits (depending on max and min value), see FastNumberFormat.
  *
  * @author Philipp Jahoda
  */
@@ -20,6 +20,13 @@ public class DefaultValueFormatter implements IValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat without going through it for most values, recreated when mFormat is
+     * replaced. Changes made to mFormat in place (e.g. its symbols) are only picked up after setup(...)
+     * or after assigning a new DecimalFormat.
+     */
+    protected FastNumberFormat mFastFormat;
+
     protected int mDecimalDigits;
 
     /**
@@ -41,14 +48,8 @@ public class DefaultValueFormatter implements IValueFormatter
 
         this.mDecimalDigits = digits;
 
-        StringBuffer b = new StringBuffer();
-        for (int i = 0; i < digits; i++) {
-            if (i == 0)
-                b.append(".");
-            b.append("0");
-        }
-
-        mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mFormat = new DecimalFormat(FastNumberFormat.getPattern(digits));
+        mFastFormat = new FastNumberFormat(mFormat);
     }
 
     @Override
@@ -57,7 +58,7 @@ public class DefaultValueFormatter implements IValueFormatter
         // put more logic here ...
         // avoid memory allocations here (for performance reasons)
 
-        return mFormat.format(value);
+        return getFastFormat().format(value);
     }
 
     /**
@@ -68,4 +69,17 @@ public class DefaultValueFormatter implements IValueFormatter
     public int getDecimalDigits() {
         return mDecimalDigits;
     }
+
+    /**
+     * Returns the fast format for mFormat, recreates it if mFormat has been replaced.
+     *
+     * @return
+     */
+    protected FastNumberFormat getFastFormat() {
+
+        if (mFastFormat == null || mFastFormat.getDecimalFormat() != mFormat)
+            mFastFormat = new FastNumberFormat(mFormat);
+
+        return mFastFormat;
+    }
 }
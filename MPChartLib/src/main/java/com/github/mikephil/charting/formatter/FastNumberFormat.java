@@ -0,0 +1,210 @@
+package com.github.mikephil.charting.formatter;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Formats numbers exactly like a fixed-point DecimalFormat (e.g. "###,###,###,##0.00") without
+ * going through DecimalFormat. The digits are written into a reused char buffer from the right, like
+ * Utils.formatNumber(...) does, so formatting only allocates the resulting String. Prefixes, suffixes
+ * and separators are taken from the DecimalFormat, so the output matches it for any locale.
+ *
+ * Values whose rounding is not certain in double precision (close to a tie like 0.125 with two
+ * decimals), values that are too large, negative values rounding to zero, NaN and infinity are
+ * passed to the DecimalFormat, as well as all values if the pattern is not a fixed-point one.
+ */
+public class FastNumberFormat {
+
+    /**
+     * largest scaled value (value * 10^decimals) formatted without DecimalFormat
+     */
+    private static final double MAX_FAST = 1e15;
+
+    private static final long[] POW_10 = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+            1000000000000000L
+    };
+
+    private final DecimalFormat mFormat;
+
+    /**
+     * false if the pattern of the format is not supported, everything is formatted by it
+     */
+    private final boolean mFast;
+
+    private final int mDecimals;
+    private final int mGroupingSize;
+
+    private final char mZeroDigit;
+    private final char mDecimalSeparator;
+    private final char mGroupingSeparator;
+
+    private final String mPositivePrefix;
+    private final String mPositiveSuffix;
+    private final String mNegativePrefix;
+    private final String mNegativeSuffix;
+
+    private char[] mBuffer = new char[64];
+
+    /**
+     * Creates a formatter for the pattern "###,###,###,##0" with the given number of decimals in the
+     * default locale.
+     *
+     * @param decimals
+     */
+    public FastNumberFormat(int decimals) {
+        this(new DecimalFormat(getPattern(decimals)));
+    }
+
+    /**
+     * Creates a formatter that produces the same output as the given format.
+     *
+     * @param format
+     */
+    public FastNumberFormat(DecimalFormat format) {
+
+        mFormat = format;
+
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+
+        mDecimals = format.getMaximumFractionDigits();
+        mGroupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+        mZeroDigit = symbols.getZeroDigit();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mPositivePrefix = format.getPositivePrefix();
+        mPositiveSuffix = format.getPositiveSuffix();
+        mNegativePrefix = format.getNegativePrefix();
+        mNegativeSuffix = format.getNegativeSuffix();
+
+        mFast = format.toPattern().indexOf('E') < 0
+                && format.getMinimumFractionDigits() == mDecimals
+                && mDecimals < POW_10.length
+                && format.getMinimumIntegerDigits() == 1
+                && format.getMultiplier() == 1
+                && format.getRoundingMode() == RoundingMode.HALF_EVEN
+                && !format.isDecimalSeparatorAlwaysShown();
+    }
+
+    /**
+     * Returns the pattern "###,###,###,##0" with the given number of decimals.
+     *
+     * @param decimals
+     * @return
+     */
+    public static String getPattern(int decimals) {
+
+        StringBuilder b = new StringBuilder("###,###,###,##0");
+
+        for (int i = 0; i < decimals; i++) {
+            if (i == 0)
+                b.append(".");
+            b.append("0");
+        }
+
+        return b.toString();
+    }
+
+    public DecimalFormat getDecimalFormat() {
+        return mFormat;
+    }
+
+    /**
+     * Formats the given value like the DecimalFormat of this formatter.
+     *
+     * @param value
+     * @return
+     */
+    public String format(double value) {
+        return format(value, "");
+    }
+
+    /**
+     * Formats the given value like the DecimalFormat of this formatter and appends the given text.
+     *
+     * @param value
+     * @param appendix
+     * @return
+     */
+    public synchronized String format(double value, String appendix) {
+
+        if (!mFast)
+            return mFormat.format(value) + appendix;
+
+        boolean negative = Double.doubleToRawLongBits(value) < 0;
+
+        long rounded = roundHalfEven(Math.abs(value) * POW_10[mDecimals]);
+
+        // -0 is formatted with a sign by DecimalFormat on some platforms only
+        if (rounded < 0 || (negative && rounded == 0))
+            return mFormat.format(value) + appendix;
+
+        String prefix = negative ? mNegativePrefix : mPositivePrefix;
+        String suffix = negative ? mNegativeSuffix : mPositiveSuffix;
+
+        int capacity = prefix.length() + suffix.length() + appendix.length() + 40;
+
+        if (mBuffer.length < capacity)
+            mBuffer = new char[capacity];
+
+        char[] out = mBuffer;
+        int ind = out.length;
+
+        for (int i = appendix.length() - 1; i >= 0; i--) {
+            out[--ind] = appendix.charAt(i);
+        }
+
+        for (int i = suffix.length() - 1; i >= 0; i--) {
+            out[--ind] = suffix.charAt(i);
+        }
+
+        for (int i = 0; i < mDecimals; i++) {
+            out[--ind] = (char) (mZeroDigit + (int) (rounded % 10));
+            rounded /= 10;
+        }
+
+        if (mDecimals > 0)
+            out[--ind] = mDecimalSeparator;
+
+        int digits = 0;
+
+        do {
+            if (mGroupingSize > 0 && digits > 0 && digits % mGroupingSize == 0)
+                out[--ind] = mGroupingSeparator;
+
+            out[--ind] = (char) (mZeroDigit + (int) (rounded % 10));
+            rounded /= 10;
+            digits++;
+        } while (rounded != 0);
+
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            out[--ind] = prefix.charAt(i);
+        }
+
+        return String.valueOf(out, ind, out.length - ind);
+    }
+
+    /**
+     * Rounds the given non-negative value half-even to a long. Returns -1 if the value is too large or
+     * so close to a tie that its rounding can not be decided reliably in double precision, where
+     * DecimalFormat implementations may differ in using the exact or the shortest decimal value.
+     *
+     * @param scaled
+     * @return
+     */
+    public static long roundHalfEven(double scaled) {
+
+        if (!(scaled < MAX_FAST))
+            return -1;
+
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+
+        if (Math.abs(fraction - 0.5) <= Math.ulp(scaled) * 4)
+            return -1;
+
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+}
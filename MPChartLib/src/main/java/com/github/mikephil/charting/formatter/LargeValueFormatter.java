@@ -6,6 +6,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Predefined value-formatter that formats large numbers in a pretty way.
@@ -27,8 +28,30 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     private DecimalFormat mFormat;
     private String mText = "";
 
+    /**
+     * true if the symbols of the format allow formatting without it, see makePrettyFast(...)
+     */
+    private boolean mFastSupported;
+
+    private char[] mBuffer = new char[32];
+
+    private static final double[] POW_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21
+    };
+
     public LargeValueFormatter() {
         mFormat = new DecimalFormat("###E00");
+
+        DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+
+        mFastSupported = "E".equals(symbols.getExponentSeparator())
+                && symbols.getZeroDigit() == '0'
+                && symbols.getDecimalSeparator() == '.'
+                && "-".equals(mFormat.getNegativePrefix())
+                && mFormat.getPositivePrefix().isEmpty()
+                && mFormat.getNegativeSuffix().isEmpty()
+                && mFormat.getPositiveSuffix().isEmpty();
     }
 
     /**
@@ -44,13 +67,20 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     // IValueFormatter
     @Override
     public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
-        return makePretty(value) + mText;
+        return format(value);
     }
 
     // IAxisValueFormatter
     @Override
     public String getFormattedValue(double value, AxisBase axis) {
-        return makePretty(value) + mText;
+        return format(value);
+    }
+
+    private String format(double value) {
+
+        String result = makePrettyFast(value);
+
+        return result != null ? result : makePretty(value) + mText;
     }
 
     /**
@@ -97,6 +127,128 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
         return r;
     }
 
+    /**
+     * Produces the same output as makePretty(...) followed by the appendix without going through
+     * DecimalFormat and regular expressions: the value is rounded half-even to three significant
+     * digits, the exponent is a multiple of three and replaced by the suffix, and the result is
+     * shortened to the maximum length. Returns null for values it can not format identically, e.g.
+     * values below 1 or with an uncertain rounding.
+     */
+    private synchronized String makePrettyFast(double number) {
+
+        if (!mFastSupported)
+            return null;
+
+        double abs = Math.abs(number);
+
+        if (!(abs >= 1.0 && abs < 1e21))
+            return null;
+
+        int exponent = (int) Math.floor(Math.log10(abs));
+
+        // correct rounding errors of log10 near powers of ten
+        if (exponent + 1 < POW_10.length && abs >= POW_10[exponent + 1])
+            exponent++;
+        else if (abs < POW_10[exponent])
+            exponent--;
+
+        double scaled = exponent >= 2 ? abs / POW_10[exponent - 2] : abs * POW_10[2 - exponent];
+
+        long digits = FastNumberFormat.roundHalfEven(scaled);
+
+        if (digits < 0)
+            return null;
+
+        if (digits == 1000) {
+            digits = 100;
+            exponent++;
+        }
+
+        int groupExponent = exponent - exponent % 3;
+        int suffixIndex = groupExponent / 3;
+
+        if (exponent >= 21 || suffixIndex >= mSuffix.length)
+            return null;
+
+        String suffix = mSuffix[suffixIndex];
+
+        // replaceAll(...) interprets these in the suffix
+        if (suffix.indexOf('$') >= 0 || suffix.indexOf('\\') >= 0)
+            return null;
+
+        int capacity = suffix.length() + mText.length() + 8;
+
+        if (mBuffer.length < capacity)
+            mBuffer = new char[capacity];
+
+        char[] out = mBuffer;
+        int length = 0;
+
+        if (number < 0)
+            out[length++] = '-';
+
+        int integerDigits = exponent - groupExponent + 1;
+        char d0 = (char) ('0' + digits / 100);
+        char d1 = (char) ('0' + digits / 10 % 10);
+        char d2 = (char) ('0' + digits % 10);
+
+        out[length++] = d0;
+
+        if (integerDigits == 1) {
+            if (d1 != '0' || d2 != '0') {
+                out[length++] = '.';
+                out[length++] = d1;
+                if (d2 != '0')
+                    out[length++] = d2;
+            }
+        } else if (integerDigits == 2) {
+            out[length++] = d1;
+            if (d2 != '0') {
+                out[length++] = '.';
+                out[length++] = d2;
+            }
+        } else {
+            out[length++] = d1;
+            out[length++] = d2;
+        }
+
+        for (int i = 0; i < suffix.length(); i++) {
+            out[length++] = suffix.charAt(i);
+        }
+
+        while (length > mMaxLength || matchesDigitsDotLetter(out, length)) {
+
+            // substring(...) of makePretty(...) would fail
+            if (length < 2)
+                return null;
+
+            out[length - 2] = out[length - 1];
+            length--;
+        }
+
+        for (int i = 0; i < mText.length(); i++) {
+            out[length++] = mText.charAt(i);
+        }
+
+        return String.valueOf(out, 0, length);
+    }
+
+    /**
+     * Returns true if the given chars match "[0-9]+\\.[a-z]".
+     */
+    private static boolean matchesDigitsDotLetter(char[] chars, int length) {
+
+        if (length < 3 || chars[length - 2] != '.' || chars[length - 1] < 'a' || chars[length - 1] > 'z')
+            return false;
+
+        for (int i = 0; i < length - 2; i++) {
+            if (chars[i] < '0' || chars[i] > '9')
+                return false;
+        }
+
+        return true;
+    }
+
     public int getDecimalDigits() {
         return 0;
     }
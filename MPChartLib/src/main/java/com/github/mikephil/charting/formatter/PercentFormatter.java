@@ -18,6 +18,11 @@ public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
 
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat without going through it for most values
+     */
+    private FastNumberFormat mFastFormat;
+
     public PercentFormatter() {
         mFormat = new DecimalFormat("###,###,##0.0");
     }
@@ -34,13 +39,21 @@ public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
     // IValueFormatter
     @Override
     public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
-        return mFormat.format(value) + " %";
+        return getFastFormat().format(value, " %");
     }
 
     // IAxisValueFormatter
     @Override
     public String getFormattedValue(double value, AxisBase axis) {
-        return mFormat.format(value) + " %";
+        return getFastFormat().format(value, " %");
+    }
+
+    private FastNumberFormat getFastFormat() {
+
+        if (mFastFormat == null || mFastFormat.getDecimalFormat() != mFormat)
+            mFastFormat = new FastNumberFormat(mFormat);
+
+        return mFastFormat;
     }
 
     public int getDecimalDigits() {
@@ -4,8 +4,6 @@ import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
-import java.text.DecimalFormat;
-
 /**
  * Created by Philipp Jahoda on 28/01/16.
  * <p/>
@@ -25,7 +23,7 @@ public class StackedValueFormatter implements IValueFormatter
      */
     private String mAppendix;
 
-    private DecimalFormat mFormat;
+    private FastNumberFormat mFormat;
 
     /**
      * Constructor.
@@ -38,14 +36,7 @@ public class StackedValueFormatter implements IValueFormatter
         this.mDrawWholeStack = drawWholeStack;
         this.mAppendix = appendix;
 
-        StringBuffer b = new StringBuffer();
-        for (int i = 0; i < decimals; i++) {
-            if (i == 0)
-                b.append(".");
-            b.append("0");
-        }
-
-        this.mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        this.mFormat = new FastNumberFormat(decimals);
     }
 
     @Override
@@ -62,7 +53,7 @@ public class StackedValueFormatter implements IValueFormatter
                 if (vals[vals.length - 1] == value) {
 
                     // return the "sum" across all stack values
-                    return mFormat.format(barEntry.getY()) + mAppendix;
+                    return mFormat.format(barEntry.getY(), mAppendix);
                 } else {
                     return ""; // return empty
                 }
@@ -70,6 +61,6 @@ public class StackedValueFormatter implements IValueFormatter
         }
 
         // return the "proposed" value
-        return mFormat.format(value) + mAppendix;
+        return mFormat.format(value, mAppendix);
     }
 }
@@ -45,6 +45,24 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected Paint mLimitLinePaint;
 
+    /**
+     * the parameters the current axis values were computed with, the computation is skipped if they
+     * did not change
+     */
+    private float mComputedMin = Float.NaN;
+    private float mComputedMax = Float.NaN;
+    private int mComputedLabelCount = -1;
+    private float mComputedGranularity = Float.NaN;
+    private boolean mComputedGranularityEnabled = false;
+    private boolean mComputedForceLabels = false;
+    private boolean mComputedCenterLabels = false;
+    private double[] mComputedEntries = null;
+    private float[] mComputedCenteredEntries = null;
+    private int mComputedEntryCount = -1;
+
+    private static final double[] EMPTY_ENTRIES = new double[]{};
+    private static final float[] EMPTY_CENTERED_ENTRIES = new float[]{};
+
     public AxisRenderer(ViewPortHandler viewPortHandler, Transformer trans, AxisBase axis) {
         super(viewPortHandler);
 
@@ -148,6 +166,54 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected void computeAxisValues(float min, float max) {
 
+        if (isComputed(min, max))
+            return;
+
+        computeAxisValuesInternal(min, max);
+
+        mComputedMin = min;
+        mComputedMax = max;
+        mComputedLabelCount = mAxis.getLabelCount();
+        mComputedGranularity = mAxis.getGranularity();
+        mComputedGranularityEnabled = mAxis.isGranularityEnabled();
+        mComputedForceLabels = mAxis.isForceLabelsEnabled();
+        mComputedCenterLabels = mAxis.isCenterAxisLabelsEnabled();
+        mComputedEntries = mAxis.mEntries;
+        mComputedCenteredEntries = mAxis.mCenteredEntries;
+        mComputedEntryCount = mAxis.mEntryCount;
+    }
+
+    /**
+     * Returns true if the current axis values were computed for the given extremes and the current
+     * label settings of the axis, e.g. for vertical pans on the x-axis or frames without any change.
+     *
+     * @param min
+     * @param max
+     * @return
+     */
+    protected boolean isComputed(float min, float max) {
+        return Float.compare(mComputedMin, min) == 0
+                && Float.compare(mComputedMax, max) == 0
+                && mComputedLabelCount == mAxis.getLabelCount()
+                && Float.compare(mComputedGranularity, mAxis.getGranularity()) == 0
+                && mComputedGranularityEnabled == mAxis.isGranularityEnabled()
+                && mComputedForceLabels == mAxis.isForceLabelsEnabled()
+                && mComputedCenterLabels == mAxis.isCenterAxisLabelsEnabled()
+                && mComputedEntries == mAxis.mEntries
+                && mComputedCenteredEntries == mAxis.mCenteredEntries
+                && mComputedEntryCount == mAxis.mEntryCount;
+    }
+
+    /**
+     * Discards the parameters of the last computation, the next call of computeAxis(...) computes the
+     * axis values again.
+     */
+    public void invalidateAxisValues() {
+        mComputedEntries = null;
+    }
+
+    private void computeAxisValuesInternal(float min, float max) {
+
         float yMin = min;
         float yMax = max;
 
@@ -155,8 +221,8 @@ public abstract class AxisRenderer extends Renderer {
         double range = Math.abs(yMax - yMin);
 
         if (labelCount == 0 || range <= 0 || Double.isInfinite(range)) {
-            mAxis.mEntries = new double[]{};
-            mAxis.mCenteredEntries = new float[]{};
+            mAxis.mEntries = EMPTY_ENTRIES;
+            mAxis.mCenteredEntries = EMPTY_CENTERED_ENTRIES;
             mAxis.mEntryCount = 0;
             return;
         }
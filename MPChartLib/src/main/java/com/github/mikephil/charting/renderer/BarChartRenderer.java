@@ -3,14 +3,19 @@ package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
+import android.view.View;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.LodPyramid;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
@@ -21,6 +26,7 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
@@ -34,9 +40,43 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     protected BarBuffer[] mBarBuffers;
 
+    /**
+     * the DataSets the buffers were created for
+     */
+    protected IBarDataSet[] mBufferDataSets;
+
+    /**
+     * true if the buffers keep their value rects across frames, see setIncrementalBuffersEnabled(...)
+     */
+    protected boolean mIncrementalBuffersEnabled = false;
+
+    /**
+     * true for the datasets that were drawn from their level-of-detail pyramid in the last frame, their
+     * buffers are not filled
+     */
+    protected boolean[] mDrawnFromLod;
+
     protected Paint mShadowPaint;
     protected Paint mBarBorderPaint;
 
+    /**
+     * prepares the bar buffers on a worker thread, null if disabled
+     */
+    protected BufferPipeline<BarDataSnapshot, BarBuffer[]> mBufferPipeline;
+
+    /**
+     * the frame of the pipeline that is drawn in the current drawData(...) call, null if none
+     */
+    protected BufferPipeline.Frame<BarBuffer[]> mPreparedFrame;
+
+    private LayerCompositor.State mPipelineState = new LayerCompositor.State();
+    private Matrix mFrameToPixel = new Matrix();
+    private Matrix mMatrixBuffer = new Matrix();
+    /**
+     * the rects of a prepared frame mapped to the current pixels
+     */
+    private float[] mMappedRects = new float[0];
+
     public BarChartRenderer(BarDataProvider chart, ChartAnimator animator,
                             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -59,13 +99,132 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
     public void initBuffers() {
 
         BarData barData = mChart.getBarData();
-        mBarBuffers = new BarBuffer[barData.getDataSetCount()];
+        int count = barData.getDataSetCount();
+
+        BarBuffer[] oldBuffers = mBarBuffers;
+        IBarDataSet[] oldDataSets = mBufferDataSets;
+
+        mBarBuffers = new BarBuffer[count];
+        mBufferDataSets = new IBarDataSet[count];
+        mDrawnFromLod = new boolean[count];
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            mBufferDataSets[i] = set;
+
+            // keep the buffers of incremental feeds as long as they belong to the same DataSet and fit
+            if (mIncrementalBuffersEnabled && oldBuffers != null && oldBuffers.length == count
+                    && oldDataSets[i] == set && oldBuffers[i].isContainsStacks() == set.isStacked()
+                    && oldBuffers[i].fits(set)) {
+                mBarBuffers[i] = oldBuffers[i];
+                continue;
+            }
+
+            int size = set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1);
+
+            // leave room for appended entries
+            if (mIncrementalBuffersEnabled)
+                size += size / 2;
+
+            mBarBuffers[i] = createBarBuffer(size, count, set.isStacked());
         }
+
+        if (mBufferPipeline != null)
+            mBufferPipeline.invalidate();
+    }
+
+    /**
+     * Creates the buffer of a DataSet with the given size.
+     *
+     * @param size
+     * @param dataSetCount
+     * @param containsStacks
+     * @return
+     */
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new BarBuffer(size, dataSetCount, containsStacks);
+    }
+
+    /**
+     * If enabled, the value-space rects of the bars are kept across frames and across
+     * notifyDataSetChanged() calls. Only appended entries and entries reported with
+     * notifyEntriesChanged(...) are recomputed, entries removed from the front are dropped without
+     * recomputing the others, and rects are only transformed into pixels again if they changed or the
+     * viewport moved. Entries that are modified, inserted or removed anywhere else must be reported with
+     * notifyEntriesChanged(...), otherwise their old bars are drawn. Useful for streaming charts where
+     * few bars change per frame.
+     *
+     * @param enabled
+     */
+    public void setIncrementalBuffersEnabled(boolean enabled) {
+
+        if (mIncrementalBuffersEnabled == enabled)
+            return;
+
+        mIncrementalBuffersEnabled = enabled;
+
+        if (mBarBuffers != null)
+            initBuffers();
+    }
+
+    public boolean isIncrementalBuffersEnabled() {
+        return mIncrementalBuffersEnabled;
+    }
+
+    /**
+     * Reports that the entries of the DataSet at the given index between the given entry indices
+     * (inclusive) were modified in place. Only needed if incremental buffers are enabled.
+     *
+     * @param dataSetIndex
+     * @param from
+     * @param to
+     */
+    public void notifyEntriesChanged(int dataSetIndex, int from, int to) {
+
+        if (mBarBuffers == null || dataSetIndex < 0 || dataSetIndex >= mBarBuffers.length)
+            return;
+
+        mBarBuffers[dataSetIndex].invalidateEntries(from, to);
+
+        if (mBufferPipeline != null)
+            mBufferPipeline.invalidate();
+    }
+
+    /**
+     * If enabled, feeding the bar buffers and transforming them into pixels runs on a worker thread.
+     * drawData(...) only collects the entries around the visible range for the worker and draws the
+     * latest prepared frame, which is already in pixels once the viewport stopped moving. While the
+     * worker prepares the next frame, the latest one is moved to the current viewport. The buffers are
+     * prepared synchronously if no frame fits the data, axes and animation phases. DataSets that draw
+     * values are always prepared synchronously. Entries modified in place must be followed by
+     * notifyDataSetChanged() on the chart, otherwise frames with their old values are drawn.
+     *
+     * @param enabled
+     */
+    public void setAsyncBufferPreparationEnabled(boolean enabled) {
+
+        if (enabled && mBufferPipeline == null) {
+
+            mBufferPipeline = new BufferPipeline<>(new BufferPipeline.Preparer<BarDataSnapshot, BarBuffer[]>() {
+                @Override
+                public BarBuffer[] prepare(BarDataSnapshot snapshot, BufferPipeline.Viewport viewport,
+                                           BarBuffer[] reuse) {
+                    return prepareBuffers(snapshot, viewport, reuse);
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    if (mChart instanceof View)
+                        ((View) mChart).postInvalidate();
+                }
+            });
+        } else if (!enabled) {
+            mBufferPipeline = null;
+        }
+    }
+
+    public boolean isAsyncBufferPreparationEnabled() {
+        return mBufferPipeline != null;
     }
 
     @Override
@@ -73,12 +232,240 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         BarData barData = mChart.getBarData();
 
+        if (mBufferPipeline != null)
+            mPreparedFrame = acquirePreparedFrame();
+
+        try {
+            for (int i = 0; i < barData.getDataSetCount(); i++) {
+
+                IBarDataSet set = barData.getDataSetByIndex(i);
+
+                if (set.isVisible()) {
+                    drawDataSet(c, set, i);
+                }
+            }
+        } finally {
+            if (mPreparedFrame != null) {
+                mBufferPipeline.release();
+                mPreparedFrame = null;
+            }
+        }
+    }
+
+    /**
+     * index of the first and last entry of the DataSet that is currently drawn that can be visible
+     */
+    protected int mVisibleFrom = 0;
+    protected int mVisibleTo = 0;
+
+    /**
+     * Calculates the range of entries of the given DataSet that are visible or closer than one bar width
+     * to the visible range.
+     *
+     * @param dataSet
+     */
+    protected void calcVisibleEntryRange(IBarDataSet dataSet) {
+
+        float margin = mChart.getBarData().getBarWidth();
+
+        int from = dataSet.getEntryIndex(mChart.getLowestVisibleX() - margin, Float.NaN, DataSet.Rounding.DOWN);
+        int to = dataSet.getEntryIndex(mChart.getHighestVisibleX() + margin, Float.NaN, DataSet.Rounding.UP);
+
+        mVisibleFrom = Math.max(from, 0);
+        mVisibleTo = to < 0 ? dataSet.getEntryCount() - 1 : to;
+    }
+
+    /**
+     * Returns the latest prepared frame if it fits the current state and requests a new frame if the
+     * viewport changed.
+     */
+    private BufferPipeline.Frame<BarBuffer[]> acquirePreparedFrame() {
+
+        BarData barData = mChart.getBarData();
+        Transformer left = mChart.getTransformer(AxisDependency.LEFT);
+        Transformer right = mChart.getTransformer(AxisDependency.RIGHT);
+
+        LayerCompositor.State state = mPipelineState.clear();
+        state.add(barData).add(barData.getDataSetCount()).add(barData.getEntryCount())
+                .add(barData.getXMin()).add(barData.getXMax()).add(barData.getYMin()).add(barData.getYMax())
+                .add(barData.getBarWidth()).add(mAnimator.getPhaseX()).add(mAnimator.getPhaseY())
+                .add(mChart.isInverted(AxisDependency.LEFT)).add(mChart.isInverted(AxisDependency.RIGHT))
+                .add(left.getValueMatrix()).add(left.getOffsetMatrix())
+                .add(right.getValueMatrix()).add(right.getOffsetMatrix());
+
         for (int i = 0; i < barData.getDataSetCount(); i++) {
 
             IBarDataSet set = barData.getDataSetByIndex(i);
 
-            if (set.isVisible()) {
-                drawDataSet(c, set, i);
+            state.add(set.isVisible()).add(set.getEntryCount());
+
+            if (set instanceof DataSet)
+                state.add(((DataSet<?>) set).getModificationCount());
+        }
+
+        BufferPipeline.Frame<BarBuffer[]> frame = mBufferPipeline.acquire(state);
+
+        Matrix touchMatrix = mViewPortHandler.getMatrixTouch();
+
+        if (frame == null || !frame.getViewport().getTouchMatrix().equals(touchMatrix)) {
+
+            BarDataSnapshot snapshot = mBufferPipeline.obtainSource();
+
+            if (snapshot == null)
+                snapshot = new BarDataSnapshot();
+
+            takeSnapshot(snapshot);
+
+            // Transformer.getValueToPixelMatrix() returns the same buffer for each call, copy the left one
+            mMatrixBuffer.set(left.getValueToPixelMatrix());
+
+            mBufferPipeline.request(state, snapshot, touchMatrix, mMatrixBuffer, right.getValueToPixelMatrix(),
+                    mAnimator.getPhaseX(), mAnimator.getPhaseY());
+        }
+
+        return frame;
+    }
+
+    /**
+     * Copies the references to the entries of all visible DataSets that can be visible in the current
+     * viewport, moved by up to half of its width, into the given snapshot. Stacked DataSets are copied
+     * completely, their bars are positioned by all previous stacks. Entries beyond phaseX are left out.
+     */
+    private void takeSnapshot(BarDataSnapshot snapshot) {
+
+        BarData barData = mChart.getBarData();
+        int count = barData.getDataSetCount();
+
+        float low = mChart.getLowestVisibleX();
+        float high = mChart.getHighestVisibleX();
+        float margin = (high - low) / 2f + barData.getBarWidth();
+
+        snapshot.setDataSetCount(count);
+        snapshot.barWidth = barData.getBarWidth();
+
+        for (int i = 0; i < count; i++) {
+
+            IBarDataSet set = barData.getDataSetByIndex(i);
+            BarDataSnapshot.Set target = snapshot.sets[i];
+
+            target.visible = set.isVisible();
+            target.entryCount = 0;
+
+            if (!target.visible)
+                continue;
+
+            target.axis = set.getAxisDependency();
+            target.inverted = mChart.isInverted(target.axis);
+            target.stacked = set.isStacked();
+            target.stackSize = set.isStacked() ? Math.max(set.getStackSize(), 1) : 1;
+
+            int from = 0;
+            int to = set.getEntryCount() - 1;
+
+            if (!target.stacked) {
+
+                from = Math.max(set.getEntryIndex(low - margin, Float.NaN, DataSet.Rounding.DOWN), 0);
+                int last = set.getEntryIndex(high + margin, Float.NaN, DataSet.Rounding.UP);
+
+                if (last >= 0)
+                    to = last;
+            }
+
+            to = Math.min(to, (int) Math.ceil(set.getEntryCount() * mAnimator.getPhaseX()) - 1);
+
+            target.first = from;
+            target.ensureCapacity(to - from + 1);
+
+            for (int j = from; j <= to; j++)
+                target.entries[target.entryCount++] = set.getEntryForIndex(j);
+        }
+    }
+
+    /**
+     * Fills the buffers of all visible DataSets from the given snapshot and transforms them into the
+     * pixels of the given viewport, called on the worker thread of the pipeline. Neither the data nor
+     * the chart are read.
+     */
+    protected BarBuffer[] prepareBuffers(BarDataSnapshot snapshot, BufferPipeline.Viewport viewport,
+                                         BarBuffer[] buffers) {
+
+        int count = snapshot.dataSetCount;
+
+        if (buffers == null || buffers.length != count)
+            buffers = new BarBuffer[count];
+
+        for (int i = 0; i < count; i++) {
+
+            BarDataSnapshot.Set set = snapshot.sets[i];
+
+            if (!set.visible)
+                continue;
+
+            int size = set.stacked ? set.entryCount * 4 * set.stackSize : (set.first + set.entryCount) * 4;
+
+            if (buffers[i] == null || buffers[i].size() < size || buffers[i].isContainsStacks() != set.stacked)
+                buffers[i] = new BarBuffer(size, count, set.stacked);
+
+            BarBuffer buffer = buffers[i];
+            buffer.setPhases(viewport.getPhaseX(), viewport.getPhaseY());
+            buffer.setDataSet(i);
+            buffer.setInverted(set.inverted);
+            buffer.setBarWidth(snapshot.barWidth);
+
+            buffer.feed(set.entries, set.first, set.entryCount);
+
+            viewport.getValueToPixelMatrix(set.axis).mapPoints(buffer.buffer, buffer.getStart(),
+                    buffer.buffer, buffer.getStart(), (buffer.getEnd() - buffer.getStart()) / 2);
+
+            // the snapshot is reused for a later request, it must not keep the entries alive
+            Arrays.fill(set.entries, 0, set.entryCount, null);
+            set.entryCount = 0;
+        }
+
+        return buffers;
+    }
+
+    /**
+     * The entries of the visible DataSets and everything else the bar buffers depend on, copied on the UI
+     * thread for a preparation on the worker thread.
+     */
+    protected static class BarDataSnapshot {
+
+        protected float barWidth = 1f;
+        protected int dataSetCount = 0;
+        protected Set[] sets = new Set[0];
+
+        protected void setDataSetCount(int count) {
+
+            if (sets.length < count) {
+                Set[] old = sets;
+                sets = Arrays.copyOf(sets, count);
+
+                for (int i = old.length; i < count; i++)
+                    sets[i] = new Set();
+            }
+
+            dataSetCount = count;
+        }
+
+        protected static class Set {
+
+            protected boolean visible;
+            protected boolean stacked;
+            protected boolean inverted;
+            protected int stackSize = 1;
+            protected AxisDependency axis = AxisDependency.LEFT;
+
+            /**
+             * the entries that can be visible, in the order of the DataSet, starting at the entry index first
+             */
+            protected BarEntry[] entries = new BarEntry[0];
+            protected int first = 0;
+            protected int entryCount = 0;
+
+            protected void ensureCapacity(int capacity) {
+                if (entries.length < capacity)
+                    entries = new BarEntry[capacity];
             }
         }
     }
@@ -97,6 +484,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        calcVisibleEntryRange(dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -107,7 +496,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = mVisibleFrom, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), mVisibleTo + 1);
                 i < count;
                 i++) {
 
@@ -133,6 +522,30 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             }
         }
 
+        final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
+        final boolean isSingleColor = dataSet.getColors().size() == 1;
+        final boolean isInverted = mChart.isInverted(dataSet.getAxisDependency());
+
+        int level = getLodLevel(dataSet);
+
+        mDrawnFromLod[index] = level >= 0;
+
+        if (level >= 0) {
+            drawDataSetFromLod(c, dataSet, getLodPyramid(dataSet), level, trans, drawBorder, isInverted);
+            return;
+        }
+
+        if (mPreparedFrame != null && !(isDrawingValuesAllowed(mChart) && shouldDrawValues(dataSet))) {
+
+            BarBuffer[] prepared = mPreparedFrame.getBuffers();
+
+            if (index < prepared.length && prepared[index] != null) {
+                drawPreparedDataSet(c, dataSet, prepared[index], trans, isSingleColor, isCustomFill,
+                        isInverted, drawBorder);
+                return;
+            }
+        }
+
         // initialize the buffer
         BarBuffer buffer = mBarBuffers[index];
         buffer.setPhases(phaseX, phaseY);
@@ -140,24 +553,148 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
         buffer.setBarWidth(mChart.getBarData().getBarWidth());
 
-        buffer.feed(dataSet);
+        feedBuffer(buffer, dataSet, trans);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        drawBars(c, dataSet, buffer.buffer, buffer.getStart(), buffer.getEnd(), isSingleColor, isCustomFill,
+                isInverted, drawBorder);
+    }
 
-        final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
-        final boolean isSingleColor = dataSet.getColors().size() == 1;
-        final boolean isInverted = mChart.isInverted(dataSet.getAxisDependency());
+    /**
+     * Returns the level of the level-of-detail pyramid the given DataSet is drawn from, or -1 if its
+     * entries are drawn. Only DataSets with a single color, no custom fills and no stacks are drawn from
+     * the pyramid.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getLodLevel(IBarDataSet dataSet) {
+
+        LodPyramid pyramid = getLodPyramid(dataSet);
+
+        if (pyramid == null || dataSet.getColors().size() != 1 || dataSet.isStacked()
+                || (dataSet.getFills() != null && !dataSet.getFills().isEmpty()))
+            return -1;
+
+        mXBounds.set(mChart, dataSet);
+
+        return pyramid.getLevelForPixels(mXBounds.range + 1, mViewPortHandler.contentWidth());
+    }
+
+    /**
+     * Fills the buffers of the DataSets whose values are drawn for the current viewport without drawing
+     * the bars, drawValues(...) positions the values by them.
+     */
+    @Override
+    public void prepareValues() {
+
+        if (!isDrawingValuesAllowed(mChart))
+            return;
+
+        BarData barData = mChart.getBarData();
+
+        for (int i = 0; i < barData.getDataSetCount(); i++) {
+
+            IBarDataSet dataSet = barData.getDataSetByIndex(i);
+
+            if (!dataSet.isVisible() || !shouldDrawValues(dataSet))
+                continue;
+
+            mDrawnFromLod[i] = getLodLevel(dataSet) >= 0;
+
+            if (mDrawnFromLod[i])
+                continue;
+
+            calcVisibleEntryRange(dataSet);
+
+            BarBuffer buffer = mBarBuffers[i];
+            buffer.setPhases(mAnimator.getPhaseX(), mAnimator.getPhaseY());
+            buffer.setDataSet(i);
+            buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+            buffer.setBarWidth(barData.getBarWidth());
+
+            feedBuffer(buffer, dataSet, mChart.getTransformer(dataSet.getAxisDependency()));
+        }
+    }
+
+    /**
+     * Feeds the buffer with the entries that can be visible and transforms them into pixels, using the
+     * incremental feed if enabled and x is not animated.
+     */
+    protected void feedBuffer(BarBuffer buffer, IBarDataSet dataSet, Transformer trans) {
+
+        if (mIncrementalBuffersEnabled && mAnimator.getPhaseX() == 1f && buffer.fits(dataSet)) {
+
+            buffer.feedIncremental(dataSet);
+
+            // stacked values are drawn walking the whole buffer
+            if (dataSet.isStacked())
+                buffer.transformIncremental(trans, 0, dataSet.getEntryCount() - 1);
+            else
+                buffer.transformIncremental(trans, mVisibleFrom, mVisibleTo);
+
+        } else {
+
+            buffer.limit(mVisibleFrom, mVisibleTo);
+            buffer.feed(dataSet);
+
+            trans.pointValuesToPixel(buffer.buffer, buffer.getStart(), buffer.getEnd());
+        }
+    }
+
+    /**
+     * Draws the bars of a buffer from the prepared frame. The frame may have been prepared for an older
+     * touch matrix, its rects are then mapped from the pixels of the frame to the current ones. The rects
+     * are mapped instead of the canvas so that the border stroke keeps its width.
+     */
+    private void drawPreparedDataSet(Canvas c, IBarDataSet dataSet, BarBuffer buffer, Transformer trans,
+                                     boolean isSingleColor, boolean isCustomFill, boolean isInverted,
+                                     boolean drawBorder) {
+
+        int start = buffer.getStart();
+        int end = buffer.getEnd();
+
+        // the frame was prepared for the current viewport, its rects are already in pixels
+        if (mPreparedFrame.getViewport().getTouchMatrix().equals(mViewPortHandler.getMatrixTouch())) {
+            drawBars(c, dataSet, buffer.buffer, start, end, isSingleColor, isCustomFill, isInverted, drawBorder);
+            return;
+        }
+
+        Matrix offset = trans.getOffsetMatrix();
+
+        // offset^-1, then the inverse touch matrix of the frame, the current touch matrix and the offset
+        offset.invert(mFrameToPixel);
+        mPreparedFrame.getViewport().getTouchMatrix().invert(mMatrixBuffer);
+        mFrameToPixel.postConcat(mMatrixBuffer);
+        mFrameToPixel.postConcat(mViewPortHandler.getMatrixTouch());
+        mFrameToPixel.postConcat(offset);
+
+        // the frame keeps its buffer, the rects are mapped to the same indices of a separate array
+        if (mMappedRects.length < end)
+            mMappedRects = new float[buffer.buffer.length];
+
+        mFrameToPixel.mapPoints(mMappedRects, start, buffer.buffer, start, (end - start) / 2);
+
+        drawBars(c, dataSet, mMappedRects, start, end, isSingleColor, isCustomFill, isInverted, drawBorder);
+    }
+
+    /**
+     * Draws the bars between the given indices of the given rects in pixels, four values per bar. Bars
+     * outside of the content rect are skipped.
+     */
+    protected void drawBars(Canvas c, IBarDataSet dataSet, float[] rects, int start, int end,
+                            boolean isSingleColor, boolean isCustomFill, boolean isInverted,
+                            boolean drawBorder) {
 
         if (isSingleColor) {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        for (int j = start, pos = j / 4; j < end; j += 4, pos++) {
 
-            if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
+            if (!mViewPortHandler.isInBoundsLeft(rects[j + 2]))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
+            if (!mViewPortHandler.isInBoundsRight(rects[j]))
                 break;
 
             if (!isSingleColor) {
@@ -170,24 +707,71 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 dataSet.getFill(pos)
                         .fillRect(
                                 c, mRenderPaint,
-                                buffer.buffer[j],
-                                buffer.buffer[j + 1],
-                                buffer.buffer[j + 2],
-                                buffer.buffer[j + 3],
+                                rects[j],
+                                rects[j + 1],
+                                rects[j + 2],
+                                rects[j + 3],
                                 isInverted ? Fill.Direction.DOWN : Fill.Direction.UP);
             }
             else {
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mRenderPaint);
+                c.drawRect(rects[j], rects[j + 1], rects[j + 2],
+                        rects[j + 3], mRenderPaint);
             }
 
             if (drawBorder) {
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mBarBorderPaint);
+                c.drawRect(rects[j], rects[j + 1], rects[j + 2],
+                        rects[j + 3], mBarBorderPaint);
             }
         }
     }
 
+    /**
+     * Draws one bar per bucket of the given pyramid level for the visible entries. Each bar spans the
+     * x-range of the bucket and the y-range of its entries including zero, which is the area the
+     * overlapping single bars would cover.
+     */
+    protected void drawDataSetFromLod(Canvas c, IBarDataSet dataSet, LodPyramid pyramid, int level,
+                                      Transformer trans, boolean drawBorder, boolean isInverted) {
+
+        final float barWidthHalf = mChart.getBarData().getBarWidth() / 2f;
+        final float phaseY = mAnimator.getPhaseY();
+        final int bucketSize = pyramid.getBucketSize(level);
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        for (int bucket = mXBounds.min / bucketSize, last = (mXBounds.min + mXBounds.range) / bucketSize;
+             bucket <= last; bucket++) {
+
+            if (pyramid.getBucketMinIndex(level, bucket) < 0)
+                continue;
+
+            int firstIndex = bucket * bucketSize;
+            int lastIndex = Math.min(firstIndex + bucketSize, dataSet.getEntryCount()) - 1;
+
+            float yMin = Math.min(pyramid.getBucketMinY(level, bucket), 0f);
+            float yMax = Math.max(pyramid.getBucketMaxY(level, bucket), 0f);
+
+            mBarRect.set(
+                    dataSet.getEntryForIndex(firstIndex).getX() - barWidthHalf,
+                    (isInverted ? yMin : yMax) * phaseY,
+                    dataSet.getEntryForIndex(lastIndex).getX() + barWidthHalf,
+                    (isInverted ? yMax : yMin) * phaseY);
+
+            trans.rectValueToPixel(mBarRect);
+
+            if (!mViewPortHandler.isInBoundsLeft(mBarRect.right))
+                continue;
+
+            if (!mViewPortHandler.isInBoundsRight(mBarRect.left))
+                break;
+
+            c.drawRect(mBarRect, mRenderPaint);
+
+            if (drawBorder)
+                c.drawRect(mBarRect, mBarBorderPaint);
+        }
+    }
+
     protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
 
         float left = x - barWidthHalf;
@@ -217,7 +801,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 IBarDataSet dataSet = dataSets.get(i);
 
-                if (!shouldDrawValues(dataSet))
+                // a bar drawn from the level-of-detail pyramid stands for many entries, no labels are drawn
+                if (!shouldDrawValues(dataSet) || mDrawnFromLod[i])
                     continue;
 
                 // apply the text-styling defined by the DataSet
@@ -248,7 +833,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = buffer.getStart(); j < buffer.getEnd(); j += 4) {
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
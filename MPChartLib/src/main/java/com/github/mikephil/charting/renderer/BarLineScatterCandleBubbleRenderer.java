@@ -85,11 +85,9 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
-
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            // look up the indices directly instead of resolving the entries back to indices
+            min = Math.max(dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN), 0);
+            max = Math.max(dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP), 0);
             range = (int) ((max - min) * phaseX);
         }
     }
@@ -0,0 +1,317 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Prepares the pixel buffers of a renderer on a worker thread. The renderer requests buffers for the
+ * current viewport while drawing and draws from the latest completed frame if it was prepared for the
+ * same state, or prepares the buffers synchronously otherwise. Frames are triple-buffered: the worker
+ * never writes to the latest completed frame or to the frame that is currently drawn, so a frame is
+ * immutable while it can be read.
+ *
+ * The worker never reads the data of the chart, the buffers are prepared from a source the renderer
+ * snapshots on the UI thread for each request and does not modify afterwards. Sources that were
+ * consumed or replaced by a newer request can be reused with obtainSource().
+ *
+ * @param <S> the type of the sources the buffers are prepared from
+ * @param <T> the type of the prepared buffers
+ */
+public class BufferPipeline<S, T> {
+
+    /**
+     * Prepares the buffers of a frame on the worker thread.
+     *
+     * @param <S>
+     * @param <T>
+     */
+    public interface Preparer<S, T> {
+
+        /**
+         * Prepares the buffers from the given source for the given viewport.
+         *
+         * @param source   the snapshot passed to request(...)
+         * @param viewport the matrices and phases to prepare the buffers for
+         * @param reuse    the buffers of an older frame that can be reused, null if there are none
+         * @return the prepared buffers
+         */
+        T prepare(S source, Viewport viewport, T reuse);
+    }
+
+    private static ExecutorService sExecutor;
+
+    private static synchronized ExecutorService getExecutor() {
+
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "MPAndroidChart-BufferPipeline");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return sExecutor;
+    }
+
+    private final Preparer<S, T> mPreparer;
+
+    /**
+     * called on the worker thread when a frame was completed, e.g. to redraw the chart
+     */
+    private final Runnable mOnFrameReady;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Frame<T>[] mFrames = new Frame[]{new Frame<T>(), new Frame<T>(), new Frame<T>()};
+
+    private Frame<T> mFront = null;
+    private Frame<T> mReading = null;
+
+    private final Viewport mRequested = new Viewport();
+    private final LayerCompositor.State mRequestedState = new LayerCompositor.State();
+    private S mRequestedSource = null;
+
+    /**
+     * a source that is neither requested nor prepared anymore, returned by obtainSource()
+     */
+    private S mSpareSource = null;
+    private boolean mPending = false;
+    private boolean mScheduled = false;
+
+    /**
+     * incremented when the frames are discarded, preparations of older generations are dropped
+     */
+    private int mGeneration = 0;
+
+    public BufferPipeline(Preparer<S, T> preparer, Runnable onFrameReady) {
+        this.mPreparer = preparer;
+        this.mOnFrameReady = onFrameReady;
+    }
+
+    /**
+     * Returns the latest completed frame if it was prepared for the given state, null otherwise. A
+     * returned frame must be released with release() after drawing.
+     *
+     * @param state everything except the touch matrix the buffers depend on
+     * @return
+     */
+    public synchronized Frame<T> acquire(LayerCompositor.State state) {
+
+        if (mFront == null || !mFront.mState.equals(state))
+            return null;
+
+        mReading = mFront;
+        return mFront;
+    }
+
+    public synchronized void release() {
+        mReading = null;
+    }
+
+    /**
+     * Returns a source that can be filled for the next request, null if none is free.
+     *
+     * @return
+     */
+    public synchronized S obtainSource() {
+        S source = mSpareSource;
+        mSpareSource = null;
+        return source;
+    }
+
+    /**
+     * Requests a frame for the given state and viewport. Only the latest request is prepared if the
+     * worker is busy. The source belongs to the pipeline afterwards and must not be modified.
+     *
+     * @param state
+     * @param source            the snapshot of the data to prepare the buffers from
+     * @param touchMatrix
+     * @param leftValueToPixel  value to pixel matrix of the left axis
+     * @param rightValueToPixel value to pixel matrix of the right axis
+     * @param phaseX
+     * @param phaseY
+     */
+    public synchronized void request(LayerCompositor.State state, S source, Matrix touchMatrix,
+                                     Matrix leftValueToPixel, Matrix rightValueToPixel, float phaseX,
+                                     float phaseY) {
+
+        if (mPending)
+            recycle(mRequestedSource);
+
+        mRequestedState.set(state);
+        mRequestedSource = source;
+        mRequested.set(touchMatrix, leftValueToPixel, rightValueToPixel, phaseX, phaseY);
+        mPending = true;
+
+        if (!mScheduled) {
+            mScheduled = true;
+            getExecutor().execute(mWork);
+        }
+    }
+
+    /**
+     * Discards all frames and pending requests, e.g. when the data changed.
+     */
+    public synchronized void invalidate() {
+        mGeneration++;
+        mFront = null;
+
+        if (mPending)
+            recycle(mRequestedSource);
+
+        mRequestedSource = null;
+        mPending = false;
+    }
+
+    private void recycle(S source) {
+        if (mSpareSource == null)
+            mSpareSource = source;
+    }
+
+    private final Runnable mWork = new Runnable() {
+        @Override
+        public void run() {
+
+            boolean done = false;
+
+            try {
+                prepareFrames();
+                done = true;
+            } finally {
+                // an Error thrown by the preparer must not keep further preparations from being scheduled
+                if (!done) {
+                    synchronized (BufferPipeline.this) {
+                        mScheduled = false;
+                    }
+                }
+            }
+        }
+    };
+
+    /**
+     * Prepares frames on the worker thread until no request is pending.
+     */
+    private void prepareFrames() {
+
+        while (true) {
+
+            Frame<T> frame;
+            S source;
+            int generation;
+
+            synchronized (this) {
+
+                if (!mPending) {
+                    mScheduled = false;
+                    return;
+                }
+
+                frame = mFrames[0];
+                for (Frame<T> f : mFrames) {
+                    if (f != mFront && f != mReading) {
+                        frame = f;
+                        break;
+                    }
+                }
+
+                frame.mState.set(mRequestedState);
+                frame.mViewport.set(mRequested);
+                source = mRequestedSource;
+                mRequestedSource = null;
+                generation = mGeneration;
+                mPending = false;
+            }
+
+            T buffers = mPreparer.prepare(source, frame.mViewport, frame.mBuffers);
+
+            synchronized (this) {
+
+                frame.mBuffers = buffers;
+                recycle(source);
+
+                if (buffers == null || generation != mGeneration)
+                    continue;
+
+                mFront = frame;
+            }
+
+            if (mOnFrameReady != null)
+                mOnFrameReady.run();
+        }
+    }
+
+    /**
+     * Snapshot of the matrices and animation phases a frame is prepared for.
+     */
+    public static final class Viewport {
+
+        private final Matrix mTouchMatrix = new Matrix();
+        private final Matrix mLeftValueToPixel = new Matrix();
+        private final Matrix mRightValueToPixel = new Matrix();
+        private float mPhaseX = 1f;
+        private float mPhaseY = 1f;
+
+        void set(Matrix touchMatrix, Matrix leftValueToPixel, Matrix rightValueToPixel, float phaseX,
+                 float phaseY) {
+            mTouchMatrix.set(touchMatrix);
+            mLeftValueToPixel.set(leftValueToPixel);
+            mRightValueToPixel.set(rightValueToPixel);
+            mPhaseX = phaseX;
+            mPhaseY = phaseY;
+        }
+
+        void set(Viewport viewport) {
+            set(viewport.mTouchMatrix, viewport.mLeftValueToPixel, viewport.mRightValueToPixel,
+                    viewport.mPhaseX, viewport.mPhaseY);
+        }
+
+        public Matrix getTouchMatrix() {
+            return mTouchMatrix;
+        }
+
+        /**
+         * Returns the matrix that transforms values of the given axis into pixels.
+         *
+         * @param axis
+         * @return
+         */
+        public Matrix getValueToPixelMatrix(AxisDependency axis) {
+            return axis == AxisDependency.LEFT ? mLeftValueToPixel : mRightValueToPixel;
+        }
+
+        public float getPhaseX() {
+            return mPhaseX;
+        }
+
+        public float getPhaseY() {
+            return mPhaseY;
+        }
+    }
+
+    /**
+     * Prepared buffers together with the viewport they were prepared for.
+     *
+     * @param <T>
+     */
+    public static final class Frame<T> {
+
+        private final LayerCompositor.State mState = new LayerCompositor.State();
+        private final Viewport mViewport = new Viewport();
+        private T mBuffers;
+
+        public T getBuffers() {
+            return mBuffers;
+        }
+
+        public Viewport getViewport() {
+            return mViewport;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
@@ -30,6 +31,34 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     private float[] mOpenBuffers = new float[4];
     private float[] mCloseBuffers = new float[4];
 
+    /**
+     * indices of the colour classes of the batched path
+     */
+    private static final int DECREASING = 0;
+    private static final int INCREASING = 1;
+    private static final int NEUTRAL = 2;
+
+    /**
+     * line segments drawn with the shadow width per colour class: shadows, neutral bodies, open-close
+     * ticks and outlines of hollow bodies, order x0,y0,x1,y1,...
+     */
+    private float[][] mBatchLines = new float[3][64];
+    private int[] mBatchLineCount = new int[3];
+
+    /**
+     * body rects per colour class, order left,top,right,bottom,...
+     */
+    private float[][] mBatchBodies = new float[3][64];
+    private int[] mBatchBodyCount = new int[3];
+
+    /**
+     * shadows drawn with the shadow colour if it differs from the candle colour
+     */
+    private float[] mBatchShadows = new float[64];
+    private int mBatchShadowCount = 0;
+
+    private float[] mBatchOutlines = new float[64];
+
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -66,6 +95,11 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
+        if (canDrawBatched(dataSet)) {
+            drawDataSetBatched(c, dataSet, trans);
+            return;
+        }
+
         // draw the body
         for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
 
@@ -252,6 +286,217 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * Returns true if the colours of the candles of the given DataSet only depend on whether they are
+     * increasing, decreasing or neutral, so they can be drawn in batches.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean canDrawBatched(ICandleDataSet dataSet) {
+
+        if (dataSet.getColors().size() == 1)
+            return true;
+
+        if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE)
+            return false;
+
+        return dataSet.getShadowColorSameAsCandle()
+                || dataSet.getShadowColor() != ColorTemplate.COLOR_NONE
+                || !dataSet.getShowCandleBar();
+    }
+
+    /**
+     * Sorts the visible candles into increasing, decreasing and neutral buckets and draws each bucket
+     * with a single drawLines(...) call for its lines and one for its bodies. Filled bodies are drawn
+     * as vertical lines as wide as the bodies. Unlike the per-candle path, all shadows are drawn
+     * before all bodies.
+     */
+    protected void drawDataSetBatched(Canvas c, ICandleDataSet dataSet, Transformer trans) {
+
+        float phaseY = mAnimator.getPhaseY();
+        float barSpace = dataSet.getBarSpace();
+        boolean showCandleBar = dataSet.getShowCandleBar();
+        boolean separateShadows = showCandleBar && !dataSet.getShadowColorSameAsCandle();
+
+        Arrays.fill(mBatchLineCount, 0);
+        Arrays.fill(mBatchBodyCount, 0);
+        mBatchShadowCount = 0;
+
+        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+
+            CandleEntry e = dataSet.getEntryForIndex(j);
+
+            if (e == null)
+                continue;
+
+            final float xPos = e.getX();
+
+            final int type = e.getOpen() > e.getClose() ? DECREASING
+                    : e.getOpen() < e.getClose() ? INCREASING : NEUTRAL;
+
+            final float open = e.getOpen() * phaseY;
+            final float close = e.getClose() * phaseY;
+            final float high = e.getHigh() * phaseY;
+            final float low = e.getLow() * phaseY;
+
+            if (showCandleBar) {
+
+                float bodyTop = Math.max(open, close);
+                float bodyBottom = Math.min(open, close);
+
+                if (separateShadows) {
+                    mBatchShadows = ensureCapacity(mBatchShadows, mBatchShadowCount + 8);
+                    mBatchShadowCount = addLine(mBatchShadows, mBatchShadowCount, xPos, high, xPos, bodyTop);
+                    mBatchShadowCount = addLine(mBatchShadows, mBatchShadowCount, xPos, low, xPos, bodyBottom);
+                } else {
+                    addLineToBatch(type, xPos, high, xPos, bodyTop);
+                    addLineToBatch(type, xPos, low, xPos, bodyBottom);
+                }
+
+                if (type == NEUTRAL) {
+                    addLineToBatch(type, xPos - 0.5f + barSpace, close, xPos + 0.5f - barSpace, open);
+                } else {
+                    float[] bodies = mBatchBodies[type] = ensureCapacity(mBatchBodies[type], mBatchBodyCount[type] + 4);
+                    mBatchBodyCount[type] = addLine(bodies, mBatchBodyCount[type],
+                            xPos - 0.5f + barSpace, bodyTop, xPos + 0.5f - barSpace, bodyBottom);
+                }
+
+            } else {
+                addLineToBatch(type, xPos, high, xPos, low);
+                addLineToBatch(type, xPos - 0.5f + barSpace, open, xPos, open);
+                addLineToBatch(type, xPos + 0.5f - barSpace, close, xPos, close);
+            }
+        }
+
+        float shadowWidth = mRenderPaint.getStrokeWidth();
+
+        mRenderPaint.setStrokeCap(Paint.Cap.BUTT);
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+
+        if (mBatchShadowCount > 0) {
+
+            trans.pointValuesToPixel(mBatchShadows, 0, mBatchShadowCount);
+
+            mRenderPaint.setColor(dataSet.getShadowColor() == ColorTemplate.COLOR_NONE
+                    ? dataSet.getColor()
+                    : dataSet.getShadowColor());
+            c.drawLines(mBatchShadows, 0, mBatchShadowCount, mRenderPaint);
+        }
+
+        for (int type = DECREASING; type <= NEUTRAL; type++) {
+
+            int color;
+            Paint.Style style;
+
+            if (type == DECREASING) {
+                color = dataSet.getDecreasingColor();
+                style = dataSet.getDecreasingPaintStyle();
+            } else if (type == INCREASING) {
+                color = dataSet.getIncreasingColor();
+                style = dataSet.getIncreasingPaintStyle();
+            } else {
+                color = dataSet.getNeutralColor();
+                style = Paint.Style.STROKE;
+            }
+
+            mRenderPaint.setColor(color == ColorTemplate.COLOR_NONE ? dataSet.getColor() : color);
+
+            int lineCount = mBatchLineCount[type];
+
+            if (lineCount > 0) {
+                trans.pointValuesToPixel(mBatchLines[type], 0, lineCount);
+                c.drawLines(mBatchLines[type], 0, lineCount, mRenderPaint);
+            }
+
+            int bodyCount = mBatchBodyCount[type];
+
+            if (bodyCount > 0) {
+
+                float[] bodies = mBatchBodies[type];
+                trans.pointValuesToPixel(bodies, 0, bodyCount);
+
+                if (style == Paint.Style.STROKE)
+                    drawBodyOutlines(c, bodies, bodyCount, shadowWidth);
+                else
+                    drawBodyFills(c, bodies, bodyCount, style == Paint.Style.FILL_AND_STROKE ? shadowWidth : 0f);
+
+                mRenderPaint.setStrokeWidth(shadowWidth);
+            }
+        }
+    }
+
+    /**
+     * Draws the given body rects in pixels as vertical lines as wide as the bodies. The stroke of
+     * FILL_AND_STROKE bodies is added by widening and lengthening the lines by the stroke width.
+     */
+    private void drawBodyFills(Canvas c, float[] bodies, int count, float stroke) {
+
+        float width = Math.abs(bodies[2] - bodies[0]) + stroke;
+        float half = stroke / 2f;
+
+        for (int i = 0; i < count; i += 4) {
+
+            float x = (bodies[i] + bodies[i + 2]) / 2f;
+            float top = Math.min(bodies[i + 1], bodies[i + 3]);
+            float bottom = Math.max(bodies[i + 1], bodies[i + 3]);
+
+            bodies[i] = x;
+            bodies[i + 1] = top - half;
+            bodies[i + 2] = x;
+            bodies[i + 3] = bottom + half;
+        }
+
+        mRenderPaint.setStrokeWidth(width);
+        c.drawLines(bodies, 0, count, mRenderPaint);
+    }
+
+    /**
+     * Draws the outlines of the given body rects in pixels. The horizontal edges are extended by half
+     * the stroke width so that the corners are closed like those of a stroked rect.
+     */
+    private void drawBodyOutlines(Canvas c, float[] bodies, int count, float stroke) {
+
+        mBatchOutlines = ensureCapacity(mBatchOutlines, count * 4);
+
+        float half = stroke / 2f;
+        int n = 0;
+
+        for (int i = 0; i < count; i += 4) {
+
+            float left = Math.min(bodies[i], bodies[i + 2]);
+            float right = Math.max(bodies[i], bodies[i + 2]);
+            float top = bodies[i + 1];
+            float bottom = bodies[i + 3];
+
+            n = addLine(mBatchOutlines, n, left - half, top, right + half, top);
+            n = addLine(mBatchOutlines, n, left - half, bottom, right + half, bottom);
+            n = addLine(mBatchOutlines, n, left, top, left, bottom);
+            n = addLine(mBatchOutlines, n, right, top, right, bottom);
+        }
+
+        c.drawLines(mBatchOutlines, 0, n, mRenderPaint);
+    }
+
+    private void addLineToBatch(int type, float x0, float y0, float x1, float y1) {
+        float[] lines = mBatchLines[type] = ensureCapacity(mBatchLines[type], mBatchLineCount[type] + 4);
+        mBatchLineCount[type] = addLine(lines, mBatchLineCount[type], x0, y0, x1, y1);
+    }
+
+    private static int addLine(float[] buffer, int index, float x0, float y0, float x1, float y1) {
+        buffer[index++] = x0;
+        buffer[index++] = y0;
+        buffer[index++] = x1;
+        buffer[index++] = y1;
+        return index;
+    }
+
+    private static float[] ensureCapacity(float[] buffer, int size) {
+        return size <= buffer.length ? buffer : Arrays.copyOf(buffer, Math.max(size, buffer.length * 2));
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
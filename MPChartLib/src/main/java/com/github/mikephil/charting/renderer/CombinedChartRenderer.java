@@ -28,6 +28,11 @@ public class CombinedChartRenderer extends DataRenderer {
 
     protected WeakReference<Chart> mChart;
 
+    /**
+     * if true, the sub-renderers keep their formatted value labels across frames
+     */
+    protected boolean mValueLabelCacheEnabled = false;
+
     public CombinedChartRenderer(CombinedChart chart, ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
         mChart = new WeakReference<Chart>(chart);
@@ -73,6 +78,10 @@ public class CombinedChartRenderer extends DataRenderer {
                     break;
             }
         }
+
+        // the renderers are recreated when the data changes, keep the value label cache setting
+        for (DataRenderer renderer : mRenderers)
+            renderer.setValueLabelCacheEnabled(isValueLabelCacheEnabled());
     }
 
     @Override
@@ -89,6 +98,13 @@ public class CombinedChartRenderer extends DataRenderer {
             renderer.drawData(c);
     }
 
+    @Override
+    public void prepareValues() {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.prepareValues();
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -96,6 +112,28 @@ public class CombinedChartRenderer extends DataRenderer {
             renderer.drawValues(c);
     }
 
+    @Override
+    public void setValueLabelCacheEnabled(boolean enabled) {
+
+        // the labels are cached by the sub-renderers, this renderer draws none itself
+        mValueLabelCacheEnabled = enabled;
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setValueLabelCacheEnabled(enabled);
+    }
+
+    @Override
+    public boolean isValueLabelCacheEnabled() {
+        return mValueLabelCacheEnabled;
+    }
+
+    @Override
+    public void invalidateValueLabels() {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.invalidateValueLabels();
+    }
+
     @Override
     public void drawExtras(Canvas c) {
 
@@ -9,7 +9,9 @@ import android.graphics.Paint.Align;
 import android.graphics.Paint.Style;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LodPyramid;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
@@ -51,6 +53,11 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * keeps the formatted value labels across frames, null if disabled
+     */
+    protected ValueLabelCache mValueLabelCache;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -161,7 +168,71 @@ public abstract class DataRenderer extends Renderer {
      */
     public void drawValue(Canvas c, IValueFormatter formatter, float value, Entry entry, int dataSetIndex, float x, float y, int color) {
         mValuePaint.setColor(color);
-        c.drawText(formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler), x, y, mValuePaint);
+        c.drawText(getFormattedValue(formatter, value, entry, dataSetIndex), x, y, mValuePaint);
+    }
+
+    /**
+     * Returns the level-of-detail pyramid of the given DataSet, null if it has none or is not a DataSet.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected static LodPyramid getLodPyramid(IDataSet<?> dataSet) {
+        return dataSet instanceof DataSet ? ((DataSet<?>) dataSet).getLodPyramid() : null;
+    }
+
+    /**
+     * Returns the label of the given value, from the value label cache if it is enabled.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSetIndex
+     * @return
+     */
+    protected String getFormattedValue(IValueFormatter formatter, float value, Entry entry, int dataSetIndex) {
+
+        if (mValueLabelCache != null)
+            return mValueLabelCache.getFormattedValue(formatter, value, entry, dataSetIndex, mViewPortHandler);
+
+        return formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler);
+    }
+
+    /**
+     * If enabled, the formatted value labels are kept across frames and only formatted again if the
+     * x-value of the entry, the formatted value, the DataSet index or the formatter changed. Formatters
+     * whose output depends on anything else, e.g. the data of the entry or the viewport, must not be used
+     * with the cache, and a formatter that is changed in place requires a call to
+     * invalidateValueLabels(). Default: disabled
+     *
+     * @param enabled
+     */
+    public void setValueLabelCacheEnabled(boolean enabled) {
+
+        if (enabled && mValueLabelCache == null)
+            mValueLabelCache = new ValueLabelCache(4096);
+        else if (!enabled)
+            mValueLabelCache = null;
+    }
+
+    public boolean isValueLabelCacheEnabled() {
+        return mValueLabelCache != null;
+    }
+
+    /**
+     * Discards all cached value labels, called when the data of the chart changed.
+     */
+    public void invalidateValueLabels() {
+        if (mValueLabelCache != null)
+            mValueLabelCache.clear();
+    }
+
+    /**
+     * Prepares everything drawValues(...) depends on for the current viewport without drawing the data,
+     * called instead of drawData(...) when the data is drawn from cached bitmaps. Does nothing by
+     * default, most renderers position the values in drawValues(...) itself.
+     */
+    public void prepareValues() {
     }
 
     /**
@@ -0,0 +1,290 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.charts.BarLineChartBase;
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the data layer of a chart (everything drawn by DataRenderer.drawData(...)) in bitmap tiles
+ * for dragging. Each tile is as wide as the content rect and covers a fixed x-range for the current
+ * scale, the tiles are positioned by the translation of the touch matrix. While only the x-translation
+ * changes, the cached tiles are reused and only the newly exposed tiles are rendered. Any other change
+ * of the viewport, the axis ranges, the data bounds or the animation phase invalidates the tiles, the
+ * data is then drawn directly until the viewport is stable again. Changes to the data or the style of
+ * the DataSets that keep the data bounds require a call to clear(). Each tile is rendered with the
+ * content rect widened by getTileMargin() on both sides, so that shapes centered next to a tile are
+ * drawn into it as well and do not get cut at the seams.
+ */
+public class DataTileCache {
+
+    /**
+     * number of values that describe the state the tiles were rendered in
+     */
+    private static final int STATE_SIZE = 9 * 5 + 4 + 2 + 5 + 2;
+
+    protected BarLineChartBase<?> mChart;
+
+    /**
+     * the cached tiles by their index, in access order for the LRU eviction
+     */
+    private final LinkedHashMap<Long, Bitmap> mTiles = new LinkedHashMap<>(8, 0.75f, true);
+
+    private int mMaxTileCount = 4;
+
+    private Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
+
+    private float[] mState = new float[STATE_SIZE];
+    private float[] mNewState = new float[STATE_SIZE];
+    private boolean mStateValid = false;
+
+    private final float[] mMatrixBuffer = new float[9];
+    private final Matrix mSavedMatrix = new Matrix();
+    private final RectF mSavedContentRect = new RectF();
+
+    public DataTileCache(BarLineChartBase<?> chart) {
+        this.mChart = chart;
+    }
+
+    /**
+     * Sets the maximum number of tiles that are cached, at least 2. Each tile needs
+     * content width * chart height * 4 bytes with the default bitmap config.
+     *
+     * @param count
+     */
+    public void setMaxTileCount(int count) {
+        mMaxTileCount = Math.max(count, 2);
+        evict();
+    }
+
+    public int getMaxTileCount() {
+        return mMaxTileCount;
+    }
+
+    /**
+     * Sets the Bitmap.Config of the tiles and clears the cache.
+     *
+     * @param config
+     */
+    public void setBitmapConfig(Bitmap.Config config) {
+        mBitmapConfig = config;
+        clear();
+    }
+
+    public Bitmap.Config getBitmapConfig() {
+        return mBitmapConfig;
+    }
+
+    /**
+     * Returns the number of tiles that are currently cached.
+     *
+     * @return
+     */
+    public int getTileCount() {
+        return mTiles.size();
+    }
+
+    /**
+     * Removes all cached tiles, they are rendered again on the next draw.
+     */
+    public void clear() {
+        mTiles.clear();
+        mStateValid = false;
+    }
+
+    /**
+     * Draws the data layer from the cached tiles, rendering the missing ones with the given renderer.
+     * Returns false if the tiles cannot be used for this frame and the data must be drawn directly.
+     *
+     * @param c
+     * @param renderer
+     * @return
+     */
+    public boolean draw(Canvas c, DataRenderer renderer) {
+
+        ViewPortHandler viewPortHandler = mChart.getViewPortHandler();
+
+        int tileWidth = (int) Math.ceil(viewPortHandler.contentWidth());
+        int tileHeight = (int) viewPortHandler.getChartHeight();
+
+        if (tileWidth <= 0 || tileHeight <= 0 || mChart.getData() == null)
+            return false;
+
+        fillState(mNewState);
+
+        if (!mStateValid || !Arrays.equals(mState, mNewState)) {
+
+            // the viewport is changing in another way than dragging, wait until it is stable
+            float[] tmp = mState;
+            mState = mNewState;
+            mNewState = tmp;
+
+            mTiles.clear();
+            mStateValid = true;
+            return false;
+        }
+
+        Matrix touchMatrix = viewPortHandler.getMatrixTouch();
+        touchMatrix.getValues(mMatrixBuffer);
+        float transX = mMatrixBuffer[Matrix.MTRANS_X];
+
+        float left = mChart.isClipDataToContentEnabled() ? viewPortHandler.contentLeft() : 0f;
+        float right = mChart.isClipDataToContentEnabled()
+                ? viewPortHandler.contentRight() : viewPortHandler.getChartWidth();
+
+        long firstTile = (long) Math.floor((left - transX) / tileWidth);
+        long lastTile = (long) Math.floor((right - transX) / tileWidth);
+
+        if (lastTile - firstTile + 1 > mMaxTileCount)
+            return false;
+
+        for (long tile = firstTile; tile <= lastTile; tile++) {
+
+            float tileLeft = transX + tile * tileWidth;
+
+            Bitmap bitmap = mTiles.get(tile);
+
+            if (bitmap == null) {
+                bitmap = renderTile(renderer, touchMatrix, tileLeft, tileWidth, tileHeight);
+
+                if (bitmap == null)
+                    return false;
+
+                mTiles.put(tile, bitmap);
+                evict();
+            }
+
+            c.drawBitmap(bitmap, tileLeft, 0f, null);
+        }
+
+        return true;
+    }
+
+    /**
+     * Renders the tile that starts at the given pixel by moving it into the content rect.
+     */
+    private Bitmap renderTile(DataRenderer renderer, Matrix touchMatrix, float tileLeft, int tileWidth,
+                              int tileHeight) {
+
+        Bitmap bitmap;
+
+        try {
+            bitmap = Bitmap.createBitmap(tileWidth, tileHeight, mBitmapConfig);
+        } catch (OutOfMemoryError e) {
+            clear();
+            return null;
+        }
+
+        RectF contentRect = mChart.getViewPortHandler().getContentRect();
+        float contentLeft = contentRect.left;
+        float margin = getTileMargin();
+
+        Canvas canvas = new Canvas(bitmap);
+        canvas.translate(-contentLeft, 0f);
+
+        mSavedMatrix.set(touchMatrix);
+        touchMatrix.postTranslate(contentLeft - tileLeft, 0f);
+
+        // the renderers skip what is outside of the content rect, widen it to include the neighbours
+        mSavedContentRect.set(contentRect);
+        contentRect.left -= margin;
+        contentRect.right += margin;
+
+        try {
+            renderer.drawData(canvas);
+        } finally {
+            touchMatrix.set(mSavedMatrix);
+            contentRect.set(mSavedContentRect);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Returns the margin in pixels the tiles are rendered with on each side, the largest scatter shape
+     * size of the data. Renderers that skip shapes by their center could otherwise cut shapes at the
+     * seams between two tiles.
+     *
+     * @return
+     */
+    protected float getTileMargin() {
+
+        float margin = 0f;
+
+        for (IDataSet<?> set : mChart.getData().getDataSets()) {
+
+            if (set instanceof IScatterDataSet)
+                margin = Math.max(margin, Utils.convertDpToPixel(((IScatterDataSet) set).getScatterShapeSize()));
+        }
+
+        return margin;
+    }
+
+    private void evict() {
+
+        Iterator<Map.Entry<Long, Bitmap>> iterator = mTiles.entrySet().iterator();
+
+        // the least recently used tiles come first
+        while (mTiles.size() > mMaxTileCount && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Writes everything except the x-translation that changes the rendered data to the given array.
+     */
+    private void fillState(float[] state) {
+
+        ViewPortHandler viewPortHandler = mChart.getViewPortHandler();
+        int i = 0;
+
+        viewPortHandler.getMatrixTouch().getValues(mMatrixBuffer);
+        mMatrixBuffer[Matrix.MTRANS_X] = 0f;
+        i = put(state, i, mMatrixBuffer);
+
+        mChart.getTransformer(AxisDependency.LEFT).getValueMatrix().getValues(mMatrixBuffer);
+        i = put(state, i, mMatrixBuffer);
+        mChart.getTransformer(AxisDependency.LEFT).getOffsetMatrix().getValues(mMatrixBuffer);
+        i = put(state, i, mMatrixBuffer);
+        mChart.getTransformer(AxisDependency.RIGHT).getValueMatrix().getValues(mMatrixBuffer);
+        i = put(state, i, mMatrixBuffer);
+        mChart.getTransformer(AxisDependency.RIGHT).getOffsetMatrix().getValues(mMatrixBuffer);
+        i = put(state, i, mMatrixBuffer);
+
+        state[i++] = viewPortHandler.contentLeft();
+        state[i++] = viewPortHandler.contentTop();
+        state[i++] = viewPortHandler.contentRight();
+        state[i++] = viewPortHandler.contentBottom();
+        state[i++] = viewPortHandler.getChartWidth();
+        state[i++] = viewPortHandler.getChartHeight();
+
+        ChartData<?> data = mChart.getData();
+        state[i++] = data.getEntryCount();
+        state[i++] = data.getXMin();
+        state[i++] = data.getXMax();
+        state[i++] = data.getYMin();
+        state[i++] = data.getYMax();
+
+        state[i++] = mChart.getAnimator().getPhaseX();
+        state[i] = mChart.getAnimator().getPhaseY();
+    }
+
+    private static int put(float[] state, int index, float[] values) {
+        System.arraycopy(values, 0, state, index, values.length);
+        return index + values.length;
+    }
+}
@@ -39,20 +39,29 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
     }
 
     @Override
-    public void initBuffers() {
-
-        BarData barData = mChart.getBarData();
-        mBarBuffers = new HorizontalBarBuffer[barData.getDataSetCount()];
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new HorizontalBarBuffer(size, dataSetCount, containsStacks);
+    }
 
-        for (int i = 0; i < mBarBuffers.length; i++) {
-            IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
-        }
+    /**
+     * Not supported for horizontal bars, their buffers are always prepared synchronously.
+     *
+     * @param enabled
+     */
+    @Override
+    public void setAsyncBufferPreparationEnabled(boolean enabled) {
     }
 
     private RectF mBarShadowRectBuffer = new RectF();
 
+    /**
+     * Horizontal bars are always drawn from their entries.
+     */
+    @Override
+    protected int getLodLevel(IBarDataSet dataSet) {
+        return -1;
+    }
+
     @Override
     protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
 
@@ -66,6 +75,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        calcVisibleEntryRange(dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -76,7 +87,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = mVisibleFrom, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), mVisibleTo + 1);
                  i < count;
                  i++) {
 
@@ -109,9 +120,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
         buffer.setBarWidth(mChart.getBarData().getBarWidth());
 
-        buffer.feed(dataSet);
-
-        trans.pointValuesToPixel(buffer.buffer);
+        feedBuffer(buffer, dataSet, trans);
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -121,7 +130,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        for (int j = buffer.getStart(), pos = j / 4; j < buffer.getEnd(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3]))
                 break;
@@ -196,7 +205,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = buffer.getStart(); j < buffer.getEnd(); j += 4) {
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -211,7 +220,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                         BarEntry entry = dataSet.getEntryForIndex(j / 4);
                         float val = entry.getY();
-                        String formattedValue = formatter.getFormattedValue(val, entry, i, mViewPortHandler);
+                        String formattedValue = getFormattedValue(formatter, val, entry, i);
 
                         // calculate the correct offset depending on the draw position of the value
                         float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
@@ -282,8 +291,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 continue;
 
                             float val = entry.getY();
-                            String formattedValue = formatter.getFormattedValue(val,
-                                    entry, i, mViewPortHandler);
+                            String formattedValue = getFormattedValue(formatter, val,
+                                    entry, i);
 
                             // calculate the correct offset depending on the draw position of the value
                             float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
@@ -353,8 +362,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             for (int k = 0; k < transformed.length; k += 2) {
 
                                 final float val = vals[k / 2];
-                                String formattedValue = formatter.getFormattedValue(val,
-                                        entry, i, mViewPortHandler);
+                                String formattedValue = getFormattedValue(formatter, val,
+                                        entry, i);
 
                                 // calculate the correct offset depending on the draw position of the value
                                 float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
@@ -0,0 +1,215 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Picture;
+
+import java.util.Arrays;
+
+/**
+ * Records the layers of a chart that only change with the viewport or the style of the chart (grid,
+ * axes, limit lines, legend) and replays the recordings as long as the inputs of a layer stay the
+ * same. The inputs are described by a State for each layer, a layer is recorded again as soon as its
+ * State differs from the one it was recorded with.
+ */
+public class LayerCompositor {
+
+    private final Picture[] mPictures;
+    private final State[] mStates;
+    private final boolean[] mValid;
+
+    /**
+     * @param layerCount the number of layers, they are addressed by their index
+     */
+    public LayerCompositor(int layerCount) {
+
+        mPictures = new Picture[layerCount];
+        mStates = new State[layerCount];
+        mValid = new boolean[layerCount];
+
+        for (int i = 0; i < layerCount; i++) {
+            mPictures[i] = new Picture();
+            mStates[i] = new State();
+        }
+    }
+
+    /**
+     * Starts recording the given layer if the given State differs from the State of the last
+     * recording. Returns the canvas to draw the layer on, endLayer(...) must be called after drawing,
+     * null if the last recording is still valid.
+     *
+     * @param layer
+     * @param state  the inputs of the layer
+     * @param width
+     * @param height
+     * @return
+     */
+    public Canvas beginLayer(int layer, State state, int width, int height) {
+
+        if (mValid[layer] && mStates[layer].equals(state))
+            return null;
+
+        mStates[layer].set(state);
+        mValid[layer] = false;
+
+        return mPictures[layer].beginRecording(width, height);
+    }
+
+    public void endLayer(int layer) {
+        mPictures[layer].endRecording();
+        mValid[layer] = true;
+    }
+
+    /**
+     * Draws the last recording of the given layer.
+     *
+     * @param layer
+     * @param c
+     */
+    public void drawLayer(int layer, Canvas c) {
+        if (mValid[layer])
+            c.drawPicture(mPictures[layer]);
+    }
+
+    /**
+     * Invalidates all recordings, every layer is recorded again when it is drawn the next time.
+     */
+    public void invalidate() {
+        Arrays.fill(mValid, false);
+    }
+
+    /**
+     * Values a layer depends on. All values are stored with their exact bits, texts are compared by
+     * their content and other objects by their identity.
+     */
+    public static class State {
+
+        private int[] mValues = new int[64];
+        private int mSize = 0;
+
+        /**
+         * texts and objects, in the order they were added
+         */
+        private Object[] mReferences = new Object[16];
+        private boolean[] mIsText = new boolean[16];
+        private int mReferenceCount = 0;
+
+        private final float[] mMatrixBuffer = new float[9];
+
+        public State clear() {
+            Arrays.fill(mReferences, 0, mReferenceCount, null);
+            mSize = 0;
+            mReferenceCount = 0;
+            return this;
+        }
+
+        public State add(int value) {
+            if (mSize == mValues.length)
+                mValues = Arrays.copyOf(mValues, mValues.length * 2);
+            mValues[mSize++] = value;
+            return this;
+        }
+
+        public State add(float value) {
+            return add(Float.floatToRawIntBits(value));
+        }
+
+        public State add(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            return add((int) bits).add((int) (bits >>> 32));
+        }
+
+        public State add(boolean value) {
+            return add(value ? 1 : 0);
+        }
+
+        public State add(Object object) {
+            return addReference(object, false);
+        }
+
+        public State add(String text) {
+            return addReference(text, true);
+        }
+
+        public State add(Matrix matrix) {
+            matrix.getValues(mMatrixBuffer);
+            for (float value : mMatrixBuffer)
+                add(value);
+            return this;
+        }
+
+        private State addReference(Object reference, boolean isText) {
+            if (mReferenceCount == mReferences.length) {
+                mReferences = Arrays.copyOf(mReferences, mReferences.length * 2);
+                mIsText = Arrays.copyOf(mIsText, mIsText.length * 2);
+            }
+            mReferences[mReferenceCount] = reference;
+            mIsText[mReferenceCount] = isText;
+            mReferenceCount++;
+            return this;
+        }
+
+        void set(State state) {
+            if (mValues.length < state.mSize)
+                mValues = new int[state.mValues.length];
+            System.arraycopy(state.mValues, 0, mValues, 0, state.mSize);
+            mSize = state.mSize;
+
+            if (mReferences.length < state.mReferenceCount) {
+                mReferences = new Object[state.mReferences.length];
+                mIsText = new boolean[state.mIsText.length];
+            }
+            Arrays.fill(mReferences, state.mReferenceCount, mReferences.length, null);
+            System.arraycopy(state.mReferences, 0, mReferences, 0, state.mReferenceCount);
+            System.arraycopy(state.mIsText, 0, mIsText, 0, state.mReferenceCount);
+            mReferenceCount = state.mReferenceCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof State))
+                return false;
+
+            State state = (State) o;
+
+            if (mSize != state.mSize || mReferenceCount != state.mReferenceCount)
+                return false;
+
+            for (int i = 0; i < mSize; i++) {
+                if (mValues[i] != state.mValues[i])
+                    return false;
+            }
+
+            for (int i = 0; i < mReferenceCount; i++) {
+
+                Object a = mReferences[i];
+                Object b = state.mReferences[i];
+
+                if (mIsText[i] != state.mIsText[i])
+                    return false;
+
+                if (a != b && (!mIsText[i] || a == null || !a.equals(b)))
+                    return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            for (int i = 0; i < mSize; i++)
+                result = 31 * result + mValues[i];
+            for (int i = 0; i < mReferenceCount; i++) {
+                Object reference = mReferences[i];
+                result = 31 * result + (reference == null ? 0
+                        : mIsText[i] ? reference.hashCode() : System.identityHashCode(reference));
+            }
+            return result;
+        }
+    }
+}
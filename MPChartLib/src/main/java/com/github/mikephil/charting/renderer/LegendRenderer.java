@@ -21,7 +21,6 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class LegendRenderer extends Renderer {
@@ -75,6 +74,72 @@ public class LegendRenderer extends Renderer {
 
     protected List<LegendEntry> computedEntries = new ArrayList<>(16);
 
+    /**
+     * number of entries added by the current computeLegend(...) call
+     */
+    private int mComputedCount = 0;
+
+    /**
+     * Adds an entry with the given properties to the computed entries. The entry of the last
+     * computation at the same position is kept if it is equal.
+     */
+    private void addEntry(String label, Legend.LegendForm form, float formSize, float formLineWidth,
+                          DashPathEffect formLineDashEffect, int formColor) {
+
+        if (mComputedCount < computedEntries.size()) {
+
+            LegendEntry e = computedEntries.get(mComputedCount);
+
+            if (e.form == form
+                    && e.formColor == formColor
+                    && Float.compare(e.formSize, formSize) == 0
+                    && Float.compare(e.formLineWidth, formLineWidth) == 0
+                    && e.formLineDashEffect == formLineDashEffect
+                    && (label == null ? e.label == null : label.equals(e.label))) {
+                mComputedCount++;
+                return;
+            }
+        }
+
+        addEntry(new LegendEntry(label, form, formSize, formLineWidth, formLineDashEffect, formColor));
+    }
+
+    private void addEntry(LegendEntry entry) {
+
+        if (mComputedCount < computedEntries.size()) {
+
+            if (computedEntries.get(mComputedCount) == entry) {
+                mComputedCount++;
+                return;
+            }
+
+            computedEntries.set(mComputedCount, entry);
+        } else {
+            computedEntries.add(entry);
+        }
+
+        mComputedCount++;
+    }
+
+    /**
+     * Returns true if the legend holds exactly the computed entries, e.g. not after the custom entries
+     * of the legend were reset.
+     */
+    private boolean isLegendUpToDate() {
+
+        LegendEntry[] entries = mLegend.getEntries();
+
+        if (entries.length != computedEntries.size())
+            return false;
+
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] != computedEntries.get(i))
+                return false;
+        }
+
+        return true;
+    }
+
     /**
      * Prepares the legend and calculates all needed forms, labels and colors.
      *
@@ -84,7 +149,7 @@ public class LegendRenderer extends Renderer {
 
         if (!mLegend.isLegendCustom()) {
 
-            computedEntries.clear();
+            mComputedCount = 0;
 
             // loop for building up the colors and labels used in the legend
             for (int i = 0; i < data.getDataSetCount(); i++) {
@@ -112,26 +177,26 @@ public class LegendRenderer extends Renderer {
                             label = null;
                         }
 
-                        computedEntries.add(new LegendEntry(
+                        addEntry(
                                 label,
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
                                 dataSet.getFormLineWidth(),
                                 dataSet.getFormLineDashEffect(),
                                 clrs.get(j)
-                        ));
+                        );
                     }
 
                     if (bds.getLabel() != null) {
                         // add the legend description label
-                        computedEntries.add(new LegendEntry(
+                        addEntry(
                                 dataSet.getLabel(),
                                 Legend.LegendForm.NONE,
                                 Float.NaN,
                                 Float.NaN,
                                 null,
                                 ColorTemplate.COLOR_NONE
-                        ));
+                        );
                     }
 
                 } else if (dataSet instanceof IPieDataSet) {
@@ -140,26 +205,26 @@ public class LegendRenderer extends Renderer {
 
                     for (int j = 0; j < clrs.size() && j < entryCount; j++) {
 
-                        computedEntries.add(new LegendEntry(
+                        addEntry(
                                 pds.getEntryForIndex(j).getLabel(),
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
                                 dataSet.getFormLineWidth(),
                                 dataSet.getFormLineDashEffect(),
                                 clrs.get(j)
-                        ));
+                        );
                     }
 
                     if (pds.getLabel() != null) {
                         // add the legend description label
-                        computedEntries.add(new LegendEntry(
+                        addEntry(
                                 dataSet.getLabel(),
                                 Legend.LegendForm.NONE,
                                 Float.NaN,
                                 Float.NaN,
                                 null,
                                 ColorTemplate.COLOR_NONE
-                        ));
+                        );
                     }
 
                 } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
@@ -168,23 +233,23 @@ public class LegendRenderer extends Renderer {
                     int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
                     int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
 
-                    computedEntries.add(new LegendEntry(
+                    addEntry(
                             null,
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
                             decreasingColor
-                    ));
+                    );
 
-                    computedEntries.add(new LegendEntry(
+                    addEntry(
                             dataSet.getLabel(),
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
                             increasingColor
-                    ));
+                    );
 
                 } else { // all others
 
@@ -199,23 +264,29 @@ public class LegendRenderer extends Renderer {
                             label = data.getDataSetByIndex(i).getLabel();
                         }
 
-                        computedEntries.add(new LegendEntry(
+                        addEntry(
                                 label,
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
                                 dataSet.getFormLineWidth(),
                                 dataSet.getFormLineDashEffect(),
                                 clrs.get(j)
-                        ));
+                        );
                     }
                 }
             }
 
             if (mLegend.getExtraEntries() != null) {
-                Collections.addAll(computedEntries, mLegend.getExtraEntries());
+                for (LegendEntry extra : mLegend.getExtraEntries())
+                    addEntry(extra);
             }
 
-            mLegend.setEntries(computedEntries);
+            if (computedEntries.size() > mComputedCount)
+                computedEntries.subList(mComputedCount, computedEntries.size()).clear();
+
+            // the entries array is only replaced if it differs from the computed entries
+            if (!isLegendUpToDate())
+                mLegend.setEntries(computedEntries);
         }
 
         Typeface tf = mLegend.getTypeface();
@@ -8,18 +8,141 @@ public class LineBuffer {
     private int sectionCount = 0; // Tracks number of (e1, e2) segments
     private final int pointsPerEntryPair;
 
+    // M4 decimation, pixel column of a point is (int) (x * columnScale + columnOffset)
+    private boolean decimate = false;
+    private float columnScale = 1f;
+    private float columnOffset = 0f;
+
+    private boolean hasChain = false; // true if the last added segment can be continued
+    private float chainX, chainY;     // end point of the last added segment
+
+    private int column;               // pixel column of the points collected below
+    private int order;                // number of points collected in the column - 1
+    private float penX, penY;         // last point written to the buffer
+    private int penOrder;
+    private float minX, minY, maxX, maxY, lastX, lastY;
+    private int minOrder, maxOrder;
+
     public LineBuffer(int entryCount, int pointsPerEntryPair) {
         this.pointsPerEntryPair = pointsPerEntryPair;
         int capacity = entryCount * pointsPerEntryPair * 4;
         this.buffer = new float[capacity];
     }
 
+    /**
+     * Enables M4 decimation: of all connected points that fall into the same pixel column, only the
+     * first, last, lowest and highest are kept. The pixel column of a value is calculated as
+     * (int) (x * scale + offset). The decimated points are a subset of the added ones, so the buffer
+     * never needs more room. flush() must be called after the last segment was added.
+     *
+     * @param scale  pixels per x-value
+     * @param offset pixel of x-value 0
+     */
+    public void setPixelColumns(float scale, float offset) {
+        decimate = true;
+        columnScale = scale;
+        columnOffset = offset;
+    }
+
     public void add(Entry e1, Entry e2, float phaseY) {
+        if (!decimate) {
+            put(e1.getX(), e1.getY() * phaseY, e2.getX(), e2.getY() * phaseY);
+            return;
+        }
+
+        float x1 = e1.getX();
+        float y1 = e1.getY() * phaseY;
+
+        if (!hasChain || x1 != chainX || y1 != chainY) {
+            flushColumn();
+            startColumn(x1, y1);
+            hasChain = true;
+        }
+
+        chainX = e2.getX();
+        chainY = e2.getY() * phaseY;
+
+        addPoint(chainX, chainY);
+    }
+
+    /**
+     * Writes the points that are still collected for decimation to the buffer.
+     */
+    public void flush() {
+        if (hasChain) {
+            flushColumn();
+            hasChain = false;
+        }
+    }
+
+    private void addPoint(float x, float y) {
+        if (columnOf(x) == column) {
+            order++;
+            if (y < minY) {
+                minX = x;
+                minY = y;
+                minOrder = order;
+            }
+            if (y > maxY) {
+                maxX = x;
+                maxY = y;
+                maxOrder = order;
+            }
+            lastX = x;
+            lastY = y;
+        } else {
+            flushColumn();
+            put(penX, penY, x, y);
+            startColumn(x, y);
+        }
+    }
+
+    private void startColumn(float x, float y) {
+        column = columnOf(x);
+        order = 0;
+        penX = minX = maxX = lastX = x;
+        penY = minY = maxY = lastY = y;
+        penOrder = minOrder = maxOrder = 0;
+    }
+
+    /**
+     * Connects the pen with the min, max and last point of the current column in the order they were
+     * added, skipping points that were already written.
+     */
+    private void flushColumn() {
+        if (!hasChain)
+            return;
+
+        if (minOrder < maxOrder) {
+            lineTo(minX, minY, minOrder);
+            lineTo(maxX, maxY, maxOrder);
+        } else {
+            lineTo(maxX, maxY, maxOrder);
+            lineTo(minX, minY, minOrder);
+        }
+
+        lineTo(lastX, lastY, order);
+    }
+
+    private void lineTo(float x, float y, int pointOrder) {
+        if (pointOrder > penOrder) {
+            put(penX, penY, x, y);
+            penX = x;
+            penY = y;
+            penOrder = pointOrder;
+        }
+    }
+
+    private int columnOf(float x) {
+        return (int) Math.floor(x * columnScale + columnOffset);
+    }
+
+    private void put(float x1, float y1, float x2, float y2) {
         if (index + 4 <= buffer.length) {
-            buffer[index++] = e1.getX();
-            buffer[index++] = e1.getY() * phaseY;
-            buffer[index++] = e2.getX();
-            buffer[index++] = e2.getY() * phaseY;
+            buffer[index++] = x1;
+            buffer[index++] = y1;
+            buffer[index++] = x2;
+            buffer[index++] = y2;
             sectionCount++;
         }
     }
@@ -39,5 +162,6 @@ public class LineBuffer {
     public void reset() {
         index = 0;
         sectionCount = 0;
+        hasChain = false;
     }
-}
\ No newline at end of file
+}
@@ -12,14 +12,19 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.GapEntry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.LodPyramid;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -71,6 +76,8 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+        mIntersectionCaches.clear();
+        mLodCaches.clear();
     }
 
     @Override
@@ -145,24 +152,28 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         if (mXBounds.range >= 1) {
 
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
+            float prevX;
+            float prevY;
+            float curX = getEntryX(dataSet, mXBounds.min);
+            float curY = getEntryY(dataSet, mXBounds.min);
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
 
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
+                prevX = curX;
+                prevY = curY;
+                curX = getEntryX(dataSet, j);
+                curY = getEntryY(dataSet, j);
 
-                final float cpx = (prev.getX())
-                        + (cur.getX() - prev.getX()) / 2.0f;
+                final float cpx = (prevX)
+                        + (curX - prevX) / 2.0f;
 
                 cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
+                        cpx, prevY * phaseY,
+                        cpx, curY * phaseY,
+                        curX, curY * phaseY);
             }
         }
 
@@ -213,34 +224,46 @@ public class LineChartRenderer extends LineRadarRenderer {
             final int firstIndex = mXBounds.min + 1;
             final int lastIndex = mXBounds.min + mXBounds.range;
 
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
+            // the values are read as primitives, columnar DataSets would create an Entry per read
+            float prevPrevX, prevPrevY;
+            float prevX = getEntryX(dataSet, Math.max(firstIndex - 2, 0));
+            float prevY = getEntryY(dataSet, Math.max(firstIndex - 2, 0));
+            float curX = getEntryX(dataSet, Math.max(firstIndex - 1, 0));
+            float curY = getEntryY(dataSet, Math.max(firstIndex - 1, 0));
+            float nextX = curX;
+            float nextY = curY;
             int nextIndex = -1;
 
-            if (cur == null) return;
-
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
 
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+                prevPrevX = prevX;
+                prevPrevY = prevY;
+                prevX = curX;
+                prevY = curY;
+
+                if (nextIndex == j) {
+                    curX = nextX;
+                    curY = nextY;
+                } else {
+                    curX = getEntryX(dataSet, j);
+                    curY = getEntryY(dataSet, j);
+                }
 
                 nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
+                nextX = getEntryX(dataSet, nextIndex);
+                nextY = getEntryY(dataSet, nextIndex);
 
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
+                prevDx = (curX - prevPrevX) * intensity;
+                prevDy = (curY - prevPrevY) * intensity;
+                curDx = (nextX - prevX) * intensity;
+                curDy = (nextY - prevY) * intensity;
 
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+                cubicPath.cubicTo(prevX + prevDx, (prevY + prevDy) * phaseY,
+                        curX - curDx,
+                        (curY - curDy) * phaseY, curX, curY * phaseY);
             }
         }
 
@@ -269,8 +292,8 @@ public class LineChartRenderer extends LineRadarRenderer {
         float fillMin = dataSet.getFillFormatter()
                 .getFillLinePosition(dataSet, mChart);
 
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
+        spline.lineTo(getEntryX(dataSet, bounds.min + bounds.range), fillMin);
+        spline.lineTo(getEntryX(dataSet, bounds.min), fillMin);
         spline.close();
 
         trans.pathValueToPixel(spline);
@@ -287,6 +310,11 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     private float[] mLineBuffer = new float[4];
 
+    /**
+     * buffer for deriving the pixel columns of x-values for decimation
+     */
+    private float[] mDecimationBuffer = new float[4];
+
     /**
      * Draws a normal line.
      *
@@ -312,7 +340,8 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
         boolean limitsEnabled = topLimitLine != null && bottomLimitLine != null;
 
-        ILineDataSet dataEntries = buildLineDataSetWithIntersections(dataSet, topLimitLine, bottomLimitLine, maximumGapBetweenPoints);
+        ILineDataSet dataEntries = getLineDataSetWithIntersections(getLodDataSet(dataSet), topLimitLine,
+                bottomLimitLine, maximumGapBetweenPoints);
 
         int entryCount = dataEntries.getEntryCount();
 
@@ -334,6 +363,26 @@ public class LineChartRenderer extends LineRadarRenderer {
         LineBuffer dottedBuffer = new LineBuffer(entryCount, pointsPerEntryPair);
         LineBuffer dottedLimitBuffer = new LineBuffer(entryCount, pointsPerEntryPair);
 
+        // decimation is a setting of LineDataSet, not part of the ILineDataSet interface
+        if (dataSet instanceof LineDataSet && ((LineDataSet) dataSet).isDecimationEnabled()
+                && dataSet.getMode() == LineDataSet.Mode.LINEAR) {
+
+            // the x-axis mapping of the transformer is linear, derive it from two points
+            mDecimationBuffer[0] = 0f;
+            mDecimationBuffer[1] = 0f;
+            mDecimationBuffer[2] = 1f;
+            mDecimationBuffer[3] = 0f;
+            trans.pointValuesToPixel(mDecimationBuffer);
+
+            float scale = mDecimationBuffer[2] - mDecimationBuffer[0];
+            float offset = mDecimationBuffer[0];
+
+            lineBuffer.setPixelColumns(scale, offset);
+            lineLimitBuffer.setPixelColumns(scale, offset);
+            dottedBuffer.setPixelColumns(scale, offset);
+            dottedLimitBuffer.setPixelColumns(scale, offset);
+        }
+
         GapEntry e1, e2;
 
         e1 = (GapEntry) dataEntries.getEntryForIndex(mXBounds.min);
@@ -381,6 +430,11 @@ public class LineChartRenderer extends LineRadarRenderer {
                 e1 = e2;
             }
 
+            lineBuffer.flush();
+            lineLimitBuffer.flush();
+            dottedBuffer.flush();
+            dottedLimitBuffer.flush();
+
             if (lineBuffer.size() > 0) {
                 mRenderPaint.setColor(dataEntries.getColor());
                 trans.pointValuesToPixel(lineBuffer.getBuffer());
@@ -424,79 +478,529 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * cache for the level-of-detail datasets of all datasets
+     */
+    private HashMap<IDataSet, LodCache> mLodCaches = new HashMap<>();
+
+    /**
+     * Returns a dataset with the first, lowest, highest and last entry of each bucket of the coarsest
+     * level-of-detail level that still has one bucket per pixel for the visible entries, or the given
+     * dataset if it has no level-of-detail pyramid or too few visible entries. The result covers one
+     * viewport width on each side of the visible range and is cached until the level changes or the
+     * viewport leaves the covered range. Datasets with a maximum gap between points are not reduced,
+     * because gaps inside a bucket would be lost.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected ILineDataSet getLodDataSet(ILineDataSet dataSet) {
+
+        LodPyramid pyramid = getLodPyramid(dataSet);
+
+        if (pyramid == null || dataSet.getMaximumGapBetweenPoints() > 0f)
+            return dataSet;
+
+        mXBounds.set(mChart, dataSet);
+
+        int level = pyramid.getLevelForPixels(mXBounds.max - mXBounds.min + 1, mViewPortHandler.contentWidth());
+
+        if (level < 0)
+            return dataSet;
+
+        int bucketSize = pyramid.getBucketSize(level);
+        int fromBucket = mXBounds.min / bucketSize;
+        int toBucket = mXBounds.max / bucketSize;
+
+        LodCache cache = mLodCaches.get(dataSet);
+
+        if (cache == null) {
+            cache = new LodCache();
+            mLodCaches.put(dataSet, cache);
+        }
+
+        if (cache.pyramid != pyramid || cache.level != level
+                || fromBucket < cache.fromBucket || toBucket > cache.toBucket) {
+
+            int padding = toBucket - fromBucket + 1;
+            fromBucket = Math.max(fromBucket - padding, 0);
+            toBucket = Math.min(toBucket + padding, pyramid.getBucketCount(level) - 1);
+
+            List<Entry> entries = new ArrayList<>((toBucket - fromBucket + 1) * 4);
+            int lastIndex = -1;
+
+            for (int bucket = fromBucket; bucket <= toBucket; bucket++) {
+
+                int first = bucket * bucketSize;
+                int last = Math.min(first + bucketSize, dataSet.getEntryCount()) - 1;
+                int min = pyramid.getBucketMinIndex(level, bucket);
+                int max = pyramid.getBucketMaxIndex(level, bucket);
+
+                lastIndex = addLodEntry(dataSet, entries, first, lastIndex);
+
+                if (min >= 0 && max >= 0) {
+                    lastIndex = addLodEntry(dataSet, entries, Math.min(min, max), lastIndex);
+                    lastIndex = addLodEntry(dataSet, entries, Math.max(min, max), lastIndex);
+                }
+
+                lastIndex = addLodEntry(dataSet, entries, last, lastIndex);
+            }
+
+            cache.result.setEntries(entries);
+            cache.pyramid = pyramid;
+            cache.level = level;
+            cache.fromBucket = fromBucket;
+            cache.toBucket = toBucket;
+        }
+
+        copyStyle(dataSet, cache.result);
+        cache.result.setMaximumGapBetweenPoints(0f);
+        return cache.result;
+    }
+
+    /**
+     * Adds a copy of the entry at the given index to the list if it comes after the last added one.
+     *
+     * @return the index of the last added entry
+     */
+    private static int addLodEntry(ILineDataSet dataSet, List<Entry> entries, int index, int lastIndex) {
+
+        if (index <= lastIndex)
+            return lastIndex;
+
+        entries.add(new Entry(getEntryX(dataSet, index), getEntryY(dataSet, index)));
+        return index;
+    }
+
+    /**
+     * cache for the gap / limit-line intersection datasets of all datasets
+     */
+    private HashMap<ILineDataSet, IntersectionCache> mIntersectionCaches = new HashMap<>();
+
+    /**
+     * if true, the intersection dataset is only built for the visible entries
+     */
+    private boolean mBoundIntersectionsToViewport = false;
+
+    private long mIntersectionCacheHits = 0;
+    private long mIntersectionCacheMisses = 0;
+
+    /**
+     * Returns the dataset with gap flags and limit-line crossings for the given dataset. The result is
+     * cached per dataset and only rebuilt if the entries, the limit-line values or the maximum gap
+     * between points have changed since the last call. Changes to the entries are detected by the
+     * modification count of the DataSet, entries modified in place require a call to
+     * notifyDataSetChanged() on the DataSet. Entries appended at the end and entries removed from the
+     * front of a RingBufferLineDataSet are applied to the cached result instead of rebuilding it. Other
+     * ILineDataSet implementations are rebuilt on every call. If bounding to the viewport is enabled,
+     * only the visible entries (plus a margin) are processed.
+     *
+     * @param dataSet
+     * @param topLimitLine
+     * @param bottomLimitLine
+     * @param maximumGapBetweenPoints
+     * @return
+     */
+    protected ILineDataSet getLineDataSetWithIntersections(
+            ILineDataSet dataSet,
+            @Nullable Float topLimitLine,
+            @Nullable Float bottomLimitLine,
+            float maximumGapBetweenPoints
+    ) {
+        IntersectionCache cache = mIntersectionCaches.get(dataSet);
+
+        if (cache == null) {
+            cache = new IntersectionCache();
+            mIntersectionCaches.put(dataSet, cache);
+        }
+
+        int fromIndex = 0;
+        int toIndex = dataSet.getEntryCount() - 1;
+
+        if (mBoundIntersectionsToViewport) {
+
+            mXBounds.set(mChart, dataSet);
+
+            // one neighbour on each side so that the segments leaving the viewport are still drawn
+            fromIndex = Math.max(mXBounds.min - 1, 0);
+            toIndex = Math.min(mXBounds.max + 1, toIndex);
+        }
+
+        int modificationCount = getModificationCount(dataSet);
+        long removedCount = getRemovedCount(dataSet);
+
+        if (modificationCount >= 0 && cache.isValid(modificationCount, topLimitLine, bottomLimitLine,
+                maximumGapBetweenPoints)) {
+
+            // apply the entries removed from the front and appended at the end since the last call
+            updateLineDataSetWithIntersections(cache, dataSet, removedCount);
+        }
+
+        if (modificationCount >= 0 && cache.covers(modificationCount, topLimitLine, bottomLimitLine,
+                maximumGapBetweenPoints, fromIndex, toIndex)) {
+            mIntersectionCacheHits++;
+
+            // styling is not part of the cache key, keep it in sync with the original
+            copyStyle(dataSet, cache.result);
+            return cache.result;
+        }
+
+        mIntersectionCacheMisses++;
+
+        if (mBoundIntersectionsToViewport) {
+
+            // build one viewport width in advance on each side, small pans are then served from the cache
+            int padding = toIndex - fromIndex;
+            fromIndex = Math.max(fromIndex - padding, 0);
+            toIndex = Math.min(toIndex + padding, dataSet.getEntryCount() - 1);
+        }
+
+        ILineDataSet result = buildLineDataSetWithIntersections(dataSet, topLimitLine, bottomLimitLine,
+                maximumGapBetweenPoints, fromIndex, toIndex);
+        cache.set(dataSet, modificationCount, removedCount, topLimitLine, bottomLimitLine, maximumGapBetweenPoints,
+                fromIndex, toIndex, (LineDataSet) result);
+
+        return result;
+    }
+
+    /**
+     * Updates the cached intersection dataset after entries have been removed from the front of a ring
+     * buffer or appended at the end without changing the existing ones. Removed entries are dropped
+     * from the front of the result, appended entries are processed and added at its end if the result
+     * reaches the last entry. Marks the cache as empty if the changes cannot be applied.
+     *
+     * @param cache
+     * @param dataSet
+     * @param removedCount
+     */
+    private void updateLineDataSetWithIntersections(IntersectionCache cache, ILineDataSet dataSet,
+                                                    long removedCount) {
+
+        LineDataSet result = cache.result;
+        int entryCount = dataSet.getEntryCount();
+        int removed = (int) (removedCount - cache.removedCount);
+
+        if (removed == 0 && entryCount == cache.entryCount)
+            return;
+
+        boolean reachesEnd = cache.toIndex == cache.entryCount - 1;
+
+        // the cached range in the indices of the current entries
+        int fromIndex = cache.fromIndex - removed;
+        int toIndex = cache.toIndex - removed;
+
+        if (removed < 0 || toIndex < 0 || entryCount < cache.entryCount - removed) {
+            cache.result = null;
+            return;
+        }
+
+        if (fromIndex < 0) {
+            removeFirstIntersections(result, -fromIndex);
+            fromIndex = 0;
+        }
+
+        if (removed > 0 && fromIndex == 0) {
+
+            // the predecessor of the first entry is gone, it now starts the dataset
+            GapEntry first = (GapEntry) result.getEntryForIndex(0);
+            first.setGap(true);
+            first.setSinglePoint(entryCount > 1 && isGapBefore(dataSet, 1, cache.maximumGapBetweenPoints));
+        }
+
+        if (reachesEnd && entryCount - 1 > toIndex) {
+            appendIntersections(dataSet, result, cache.topLimitLine, cache.bottomLimitLine,
+                    cache.maximumGapBetweenPoints, toIndex + 1, entryCount - 1);
+            toIndex = entryCount - 1;
+        }
+
+        cache.fromIndex = fromIndex;
+        cache.toIndex = toIndex;
+        cache.entryCount = entryCount;
+        cache.removedCount = removedCount;
+    }
+
+    /**
+     * Removes the entries created for the given number of source entries from the front of the
+     * intersection dataset, together with the limit-line crossings that follow them.
+     *
+     * @param set
+     * @param count
+     */
+    private static void removeFirstIntersections(LineDataSet set, int count) {
+
+        List<Entry> entries = set.getEntries();
+
+        int end = 0;
+
+        for (int sources = 0; end < entries.size(); end++) {
+
+            if (entries.get(end) instanceof LimitCrossingEntry)
+                continue;
+
+            if (sources == count)
+                break;
+
+            sources++;
+        }
+
+        entries.subList(0, end).clear();
+        set.calcMinMax();
+    }
+
+    /**
+     * Returns the modification count of the given dataset, or -1 if it does not keep one.
+     *
+     * @param dataSet
+     * @return
+     */
+    private static int getModificationCount(ILineDataSet dataSet) {
+        return dataSet instanceof DataSet ? ((DataSet<?>) dataSet).getModificationCount() : -1;
+    }
+
+    /**
+     * Returns the number of entries removed from the front of the given dataset if it is a ring buffer,
+     * 0 otherwise.
+     *
+     * @param dataSet
+     * @return
+     */
+    private static long getRemovedCount(ILineDataSet dataSet) {
+        return dataSet instanceof RingBufferLineDataSet ? ((RingBufferLineDataSet) dataSet).getRemovedCount() : 0;
+    }
+
+    /**
+     * If set to true, gap flags and limit-line crossings are only computed for the visible entry range
+     * (plus one neighbour on each side) instead of the whole dataset. The drawn result is the same, but the
+     * cost of zoomed-in frames scales with the number of visible entries. Default: false
+     *
+     * @param enabled
+     */
+    public void setBoundIntersectionsToViewport(boolean enabled) {
+        mBoundIntersectionsToViewport = enabled;
+        mIntersectionCaches.clear();
+    }
+
+    /**
+     * Returns true if the intersection dataset is only built for the visible entries.
+     *
+     * @return
+     */
+    public boolean isBoundIntersectionsToViewport() {
+        return mBoundIntersectionsToViewport;
+    }
+
+    /**
+     * Returns the number of times the intersection dataset was served from the cache.
+     *
+     * @return
+     */
+    public long getIntersectionCacheHitCount() {
+        return mIntersectionCacheHits;
+    }
+
+    /**
+     * Returns the number of times the intersection dataset had to be rebuilt.
+     *
+     * @return
+     */
+    public long getIntersectionCacheMissCount() {
+        return mIntersectionCacheMisses;
+    }
+
+    /**
+     * Resets the intersection cache hit and miss counters.
+     */
+    public void resetIntersectionCacheStats() {
+        mIntersectionCacheHits = 0;
+        mIntersectionCacheMisses = 0;
+    }
+
     public ILineDataSet buildLineDataSetWithIntersections(
             ILineDataSet original,
             @Nullable Float topLimitLine,
             @Nullable Float bottomLimitLine,
             float maximumGapBetweenPoints
     ) {
-        List<GapEntry> resultEntries = new ArrayList<>();
+        return buildLineDataSetWithIntersections(original, topLimitLine, bottomLimitLine, maximumGapBetweenPoints,
+                0, original.getEntryCount() - 1);
+    }
+
+    /**
+     * Builds the dataset with gap flags and limit-line crossings only for the entries between the given
+     * indices (inclusive). The gap and single-point flags at the borders are derived from the neighbouring
+     * entries outside of the range, so the result is identical to the corresponding part of the full build.
+     *
+     * @param original
+     * @param topLimitLine
+     * @param bottomLimitLine
+     * @param maximumGapBetweenPoints
+     * @param fromIndex
+     * @param toIndex
+     * @return
+     */
+    public ILineDataSet buildLineDataSetWithIntersections(
+            ILineDataSet original,
+            @Nullable Float topLimitLine,
+            @Nullable Float bottomLimitLine,
+            float maximumGapBetweenPoints,
+            int fromIndex,
+            int toIndex
+    ) {
         int entryCount = original.getEntryCount();
 
-        if (entryCount < 1) return new LineDataSet(new ArrayList<>(resultEntries), original.getLabel());
-        boolean useGaps = maximumGapBetweenPoints > 0;
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, entryCount - 1);
+
+        // Create a new dataset with the same styling
+        LineDataSet newDataSet = new LineDataSet(new ArrayList<Entry>(), original.getLabel());
+
+        if (entryCount < 1 || toIndex < fromIndex)
+            return newDataSet;
+
+        appendIntersections(original, newDataSet, topLimitLine, bottomLimitLine, maximumGapBetweenPoints,
+                fromIndex, toIndex);
+
+        // Optional: copy styling from original
+        copyStyle(original, newDataSet);
+
+        return newDataSet;
+    }
+
+    /**
+     * Adds the entries with gap flags and limit-line crossings for the entries between the given indices
+     * (inclusive) to the given dataset. If the dataset is not empty, its last entry must have been created
+     * for the entry before fromIndex, the segment between them is then processed as well.
+     *
+     * @param original
+     * @param result
+     * @param topLimitLine
+     * @param bottomLimitLine
+     * @param maximumGapBetweenPoints
+     * @param fromIndex
+     * @param toIndex
+     */
+    private static void appendIntersections(
+            ILineDataSet original,
+            LineDataSet result,
+            @Nullable Float topLimitLine,
+            @Nullable Float bottomLimitLine,
+            float maximumGapBetweenPoints,
+            int fromIndex,
+            int toIndex
+    ) {
+        int entryCount = original.getEntryCount();
 
-        Entry firstPoint = original.getEntryForIndex(0);
-        float x1 = firstPoint.getX();
-        float y1 = firstPoint.getY();
-        GapEntry e1 = new GapEntry(x1, y1, true);
+        float x1 = 0f;
+        float y1 = 0f;
+        GapEntry e1 = null;
         GapEntry e2 = null;
-        resultEntries.add(e1);
 
-        for (int i = 1; i < entryCount; i++) {
-            Entry currentPoint = original.getEntryForIndex(i);
-            float x2 = currentPoint.getX();
-            float y2 = currentPoint.getY();
+        if (result.getEntryCount() > 0) {
+
+            e1 = (GapEntry) result.getEntryForIndex(result.getEntryCount() - 1);
+            x1 = e1.getX();
+            y1 = e1.getY();
 
-            boolean isGap = useGaps && (x2 - x1 > maximumGapBetweenPoints);
+            // it was flagged as single for being the last entry, the loop flags it again if needed
+            e1.setSinglePoint(false);
+        }
+
+        for (int i = fromIndex; i <= toIndex; i++) {
+            float x2 = getEntryX(original, i);
+            float y2 = getEntryY(original, i);
+
+            boolean isGap = isGapBefore(original, i, maximumGapBetweenPoints);
             e2 = new GapEntry(x2, y2, isGap);
 
-            if (isGap && e1.isGap()) {
-                e1.setSinglePoint(true);
-            }
+            if (e1 != null) {
 
-            // Interpolate for top limit
-            GapEntry newEntry1 = null;
-            GapEntry newEntry2 = null;
+                if (isGap && e1.isGap()) {
+                    e1.setSinglePoint(true);
+                }
 
-            if (topLimitLine != null && crossesLimit(y1, y2, topLimitLine)) {
-                newEntry1 = interpolateGapEntry(x1, y1, x2, y2, topLimitLine, isGap);
-            }
+                // Interpolate for top limit
+                GapEntry newEntry1 = null;
+                GapEntry newEntry2 = null;
 
-            // Interpolate for bottom limit
-            if (bottomLimitLine != null && crossesLimit(y1, y2, bottomLimitLine)) {
-                newEntry2 = interpolateGapEntry(x1, y1, x2, y2, bottomLimitLine, isGap);
-            }
+                if (topLimitLine != null && crossesLimit(y1, y2, topLimitLine)) {
+                    newEntry1 = interpolateGapEntry(x1, y1, x2, y2, topLimitLine, isGap);
+                }
+
+                // Interpolate for bottom limit
+                if (bottomLimitLine != null && crossesLimit(y1, y2, bottomLimitLine)) {
+                    newEntry2 = interpolateGapEntry(x1, y1, x2, y2, bottomLimitLine, isGap);
+                }
 
-            if (newEntry1 != null && newEntry2 != null) {
-                if (newEntry1.getX() < newEntry2.getX()) {
-                    resultEntries.add(newEntry1);
-                    resultEntries.add(newEntry2);
+                if (newEntry1 != null && newEntry2 != null) {
+                    if (newEntry1.getX() < newEntry2.getX()) {
+                        result.addEntry(newEntry1);
+                        result.addEntry(newEntry2);
+                    } else {
+                        result.addEntry(newEntry2);
+                        result.addEntry(newEntry1);
+                    }
                 } else {
-                    resultEntries.add(newEntry2);
-                    resultEntries.add(newEntry1);
+                    if (newEntry1 != null) result.addEntry(newEntry1);
+                    if (newEntry2 != null) result.addEntry(newEntry2);
                 }
-            } else {
-                if (newEntry1 != null) resultEntries.add(newEntry1);
-                if (newEntry2 != null) resultEntries.add(newEntry2);
             }
 
-            resultEntries.add(e2);
+            result.addEntry(e2);
             x1 = x2;
             y1 = y2;
             e1 = e2;
         }
 
-        if (e2 != null && e2.isGap()) {
-            e2.setSinglePoint(true);
+        if (e2.isGap()) {
+            if (toIndex == entryCount - 1) {
+                // the last entry of the dataset is single if it starts a new segment
+                if (toIndex > 0) e2.setSinglePoint(true);
+            } else if (isGapBefore(original, toIndex + 1, maximumGapBetweenPoints)) {
+                e2.setSinglePoint(true);
+            }
         }
-        // Create a new dataset with the same styling
-        LineDataSet newDataSet = new LineDataSet(new ArrayList<>(resultEntries), original.getLabel());
+    }
 
-        // Optional: copy styling from original
-        copyStyle(original, newDataSet);
+    /**
+     * Returns true if the entry at the given index starts a new segment, i.e. it is the first entry of
+     * the dataset or too far away from its predecessor.
+     */
+    private static boolean isGapBefore(ILineDataSet set, int index, float maximumGapBetweenPoints) {
+        if (index == 0) return true;
+        return maximumGapBetweenPoints > 0
+                && getEntryX(set, index) - getEntryX(set, index - 1) > maximumGapBetweenPoints;
+    }
 
-        return newDataSet;
+    /**
+     * Returns the x-value of the entry at the given index. Columnar DataSets are read directly, their
+     * getEntryForIndex(...) creates a new Entry per call.
+     *
+     * @param dataSet
+     * @param index
+     * @return
+     */
+    protected static float getEntryX(ILineDataSet dataSet, int index) {
+
+        if (dataSet instanceof ColumnarLineDataSet)
+            return ((ColumnarLineDataSet) dataSet).getX(index);
+
+        return dataSet.getEntryForIndex(index).getX();
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index. Columnar DataSets are read directly, their
+     * getEntryForIndex(...) creates a new Entry per call.
+     *
+     * @param dataSet
+     * @param index
+     * @return
+     */
+    protected static float getEntryY(ILineDataSet dataSet, int index) {
+
+        if (dataSet instanceof ColumnarLineDataSet)
+            return ((ColumnarLineDataSet) dataSet).getY(index);
+
+        return dataSet.getEntryForIndex(index).getY();
     }
 
     private static void copyStyle(ILineDataSet from, LineDataSet to) {
@@ -521,10 +1025,21 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     private static GapEntry interpolateGapEntry(float x1, float y1, float x2, float y2, float limitY, boolean isGap) {
-        if (y1 == y2) return new GapEntry((x1 + x2) / 2f, limitY, isGap);
+        if (y1 == y2) return new LimitCrossingEntry((x1 + x2) / 2f, limitY, isGap);
         float t = (limitY - y1) / (y2 - y1);
         float interpolatedX = x1 + t * (x2 - x1);
-        return new GapEntry(interpolatedX, limitY, isGap);
+        return new LimitCrossingEntry(interpolatedX, limitY, isGap);
+    }
+
+    /**
+     * An entry of the intersection dataset where a line crosses a limit line, tells them apart from the
+     * entries created for the entries of the original dataset.
+     */
+    private static class LimitCrossingEntry extends GapEntry {
+
+        LimitCrossingEntry(float x, float y, boolean isGap) {
+            super(x, y, isGap);
+        }
     }
 
     protected Path mGenerateFilledPathBuffer = new Path();
@@ -901,7 +1416,17 @@ public class LineChartRenderer extends LineRadarRenderer {
                     if (!mViewPortHandler.isInBoundsLeft(x) || !mViewPortHandler.isInBoundsY(y))
                         continue;
 
-                    Entry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
+                    Entry entry;
+
+                    if (dataSet instanceof ColumnarLineDataSet) {
+                        // columnar entries have no icons or data, pass a reused entry to the formatter
+                        ColumnarLineDataSet columnar = (ColumnarLineDataSet) dataSet;
+                        entry = mColumnarValueEntry;
+                        entry.setX(columnar.getX(j / 2 + mXBounds.min));
+                        entry.setY(columnar.getY(j / 2 + mXBounds.min));
+                    } else {
+                        entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
+                    }
 
                     if (dataSet.isDrawValuesEnabled()) {
                         drawValue(c, dataSet.getValueFormatter(), entry.getY(), entry, i, x,
@@ -927,6 +1452,11 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * the entry passed to the value formatter for the labels of columnar DataSets
+     */
+    private Entry mColumnarValueEntry = new Entry();
+
     @Override
     public void drawExtras(Canvas c) {
         drawCircles(c);
@@ -983,17 +1513,37 @@ public class LineChartRenderer extends LineRadarRenderer {
             mXBounds.set(mChart, dataSet);
 
             float circleRadius = dataSet.getCircleRadius();
+            float circleHoleRadius = dataSet.getCircleHoleRadius();
+            boolean drawCircleHole = dataSet.isDrawCircleHoleEnabled() &&
+                    circleHoleRadius < circleRadius &&
+                    circleHoleRadius > 0.f;
+            boolean drawTransparentCircleHole = drawCircleHole &&
+                    dataSet.getCircleHoleColor() == ColorTemplate.COLOR_NONE;
+
+            DataSetImageCache imageCache;
+
+            if (mImageCaches.containsKey(dataSet)) {
+                imageCache = mImageCaches.get(dataSet);
+            } else {
+                imageCache = new DataSetImageCache();
+                mImageCaches.put(dataSet, imageCache);
+            }
+
+            boolean changeRequired = imageCache.init(dataSet, drawCircleHole, drawTransparentCircleHole, limitColor);
+
+            // only fill the cache with new bitmaps if a change is required
+            if (changeRequired) {
+                imageCache.fill(dataSet, drawCircleHole, drawTransparentCircleHole, limitColor);
+            }
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
 
             for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
 
-                Entry e = dataSet.getEntryForIndex(j);
-
-                if (e == null) break;
+                float y = getEntryY(dataSet, j);
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                mCirclesBuffer[0] = getEntryX(dataSet, j);
+                mCirclesBuffer[1] = y * phaseY;
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -1004,13 +1554,17 @@ public class LineChartRenderer extends LineRadarRenderer {
                         !mViewPortHandler.isInBoundsY(mCirclesBuffer[1]))
                     continue;
 
-                if (topLimitLine != null && (e.getY() >= topLimitLine || e.getY() <= bottomLimitLine)) {
-                    mRenderPaint.setColor(limitColor);
+                Bitmap circleBitmap;
 
+                if (topLimitLine != null && (y >= topLimitLine || y <= bottomLimitLine)) {
+                    circleBitmap = imageCache.getLimitBitmap();
                 } else {
-                    mRenderPaint.setColor(dataSet.getCircleColor(i));
+                    circleBitmap = imageCache.getBitmap(j);
+                }
+
+                if (circleBitmap != null) {
+                    c.drawBitmap(circleBitmap, mCirclesBuffer[0] - circleRadius, mCirclesBuffer[1] - circleRadius, null);
                 }
-                c.drawCircle(mCirclesBuffer[0], mCirclesBuffer[1], circleRadius, mRenderPaint);
             }
         }
     }
@@ -1105,13 +1659,31 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         private Bitmap[] circleBitmaps;
 
+        /**
+         * bitmap for circles beyond the limit lines, in the colour of the limit lines
+         */
+        private Bitmap limitBitmap;
+
+        /**
+         * the state the bitmaps were drawn for
+         */
+        private int[] colors = new int[0];
+        private float circleRadius, circleHoleRadius;
+        private int circleHoleColor;
+        private boolean drawCircleHole, drawTransparentCircleHole;
+        private Integer limitColor;
+
         /**
          * Sets up the cache, returns true if a change of cache was required.
          *
          * @param set
+         * @param drawCircleHole
+         * @param drawTransparentCircleHole
+         * @param limitColor the colour of the limit lines, null if there are none
          * @return
          */
-        protected boolean init(ILineDataSet set) {
+        protected boolean init(ILineDataSet set, boolean drawCircleHole, boolean drawTransparentCircleHole,
+                               Integer limitColor) {
 
             int size = set.getCircleColorCount();
             boolean changeRequired = false;
@@ -1124,6 +1696,34 @@ public class LineChartRenderer extends LineRadarRenderer {
                 changeRequired = true;
             }
 
+            if (colors.length != size) {
+                colors = new int[size];
+                changeRequired = true;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (colors[i] != set.getCircleColor(i)) {
+                    colors[i] = set.getCircleColor(i);
+                    changeRequired = true;
+                }
+            }
+
+            if (circleRadius != set.getCircleRadius()
+                    || circleHoleRadius != set.getCircleHoleRadius()
+                    || circleHoleColor != set.getCircleHoleColor()
+                    || this.drawCircleHole != drawCircleHole
+                    || this.drawTransparentCircleHole != drawTransparentCircleHole
+                    || (limitColor == null ? this.limitColor != null : !limitColor.equals(this.limitColor))) {
+
+                circleRadius = set.getCircleRadius();
+                circleHoleRadius = set.getCircleHoleRadius();
+                circleHoleColor = set.getCircleHoleColor();
+                this.drawCircleHole = drawCircleHole;
+                this.drawTransparentCircleHole = drawTransparentCircleHole;
+                this.limitColor = limitColor;
+                changeRequired = true;
+            }
+
             return changeRequired;
         }
 
@@ -1133,58 +1733,72 @@ public class LineChartRenderer extends LineRadarRenderer {
          * @param set
          * @param drawCircleHole
          * @param drawTransparentCircleHole
+         * @param limitColor the colour of the limit lines, null if there are none
          */
-        protected void fill(ILineDataSet set, boolean drawCircleHole, boolean drawTransparentCircleHole) {
+        protected void fill(ILineDataSet set, boolean drawCircleHole, boolean drawTransparentCircleHole,
+                            Integer limitColor) {
 
             int colorCount = set.getCircleColorCount();
+
+            for (int i = 0; i < colorCount; i++) {
+                circleBitmaps[i] = createCircleBitmap(set, set.getCircleColor(i), drawCircleHole,
+                        drawTransparentCircleHole);
+            }
+
+            limitBitmap = limitColor == null
+                    ? null
+                    : createCircleBitmap(set, limitColor, drawCircleHole, drawTransparentCircleHole);
+        }
+
+        private Bitmap createCircleBitmap(ILineDataSet set, int color, boolean drawCircleHole,
+                                          boolean drawTransparentCircleHole) {
+
             float circleRadius = set.getCircleRadius();
             float circleHoleRadius = set.getCircleHoleRadius();
 
-            for (int i = 0; i < colorCount; i++) {
+            Bitmap.Config conf = Bitmap.Config.ARGB_4444;
+            Bitmap circleBitmap = Bitmap.createBitmap((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
 
-                Bitmap.Config conf = Bitmap.Config.ARGB_4444;
-                Bitmap circleBitmap = Bitmap.createBitmap((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
+            Canvas canvas = new Canvas(circleBitmap);
+            mRenderPaint.setColor(color);
 
-                Canvas canvas = new Canvas(circleBitmap);
-                circleBitmaps[i] = circleBitmap;
-                mRenderPaint.setColor(set.getCircleColor(i));
+            if (drawTransparentCircleHole) {
+                // Begin path for circle with hole
+                mCirclePathBuffer.reset();
 
-                if (drawTransparentCircleHole) {
-                    // Begin path for circle with hole
-                    mCirclePathBuffer.reset();
+                mCirclePathBuffer.addCircle(
+                        circleRadius,
+                        circleRadius,
+                        circleRadius,
+                        Path.Direction.CW);
 
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleRadius,
-                            Path.Direction.CW);
+                // Cut hole in path
+                mCirclePathBuffer.addCircle(
+                        circleRadius,
+                        circleRadius,
+                        circleHoleRadius,
+                        Path.Direction.CCW);
 
-                    // Cut hole in path
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleHoleRadius,
-                            Path.Direction.CCW);
+                // Fill in-between
+                canvas.drawPath(mCirclePathBuffer, mRenderPaint);
+            } else {
 
-                    // Fill in-between
-                    canvas.drawPath(mCirclePathBuffer, mRenderPaint);
-                } else {
+                canvas.drawCircle(
+                        circleRadius,
+                        circleRadius,
+                        circleRadius,
+                        mRenderPaint);
 
+                if (drawCircleHole) {
                     canvas.drawCircle(
                             circleRadius,
                             circleRadius,
-                            circleRadius,
-                            mRenderPaint);
-
-                    if (drawCircleHole) {
-                        canvas.drawCircle(
-                                circleRadius,
-                                circleRadius,
-                                circleHoleRadius,
-                                mCirclePaintInner);
-                    }
+                            circleHoleRadius,
+                            mCirclePaintInner);
                 }
             }
+
+            return circleBitmap;
         }
 
         /**
@@ -1196,5 +1810,112 @@ public class LineChartRenderer extends LineRadarRenderer {
         protected Bitmap getBitmap(int index) {
             return circleBitmaps[index % circleBitmaps.length];
         }
+
+        /**
+         * Returns the cached Bitmap in the colour of the limit lines.
+         *
+         * @return
+         */
+        protected Bitmap getLimitBitmap() {
+            return limitBitmap;
+        }
+    }
+
+    /**
+     * Holds the level-of-detail dataset of one dataset together with the pyramid level and bucket range
+     * it was built from.
+     */
+    private static class LodCache {
+
+        private LineDataSet result = new LineDataSet(null, "");
+
+        private LodPyramid pyramid;
+        private int level = -1;
+        private int fromBucket, toBucket;
+    }
+
+    /**
+     * Holds the intersection dataset of one dataset together with the state it was built from.
+     */
+    private static class IntersectionCache {
+
+        private LineDataSet result;
+
+        private int entryCount;
+
+        /**
+         * the modification count of the source dataset the result was built from
+         */
+        private int modificationCount;
+
+        /**
+         * the number of entries removed from the front of the source ring buffer when the result was
+         * last updated
+         */
+        private long removedCount;
+
+        private Float topLimitLine;
+        private Float bottomLimitLine;
+        private float maximumGapBetweenPoints;
+
+        /**
+         * the range of source entry indices the result was built for
+         */
+        private int fromIndex, toIndex;
+
+        /**
+         * Returns true if the cached result was built from the same entries, apart from entries removed
+         * from the front or appended at the end, and the same limits and gap setting.
+         *
+         * @param modification
+         * @param top
+         * @param bottom
+         * @param maximumGap
+         * @return
+         */
+        protected boolean isValid(int modification, Float top, Float bottom, float maximumGap) {
+
+            return result != null
+                    && modification == modificationCount
+                    && maximumGap == maximumGapBetweenPoints
+                    && equals(top, topLimitLine)
+                    && equals(bottom, bottomLimitLine);
+        }
+
+        /**
+         * Returns true if the cached result is valid and covers the given range of entry indices.
+         *
+         * @param modification
+         * @param top
+         * @param bottom
+         * @param maximumGap
+         * @param from
+         * @param to
+         * @return
+         */
+        protected boolean covers(int modification, Float top, Float bottom, float maximumGap, int from, int to) {
+            return isValid(modification, top, bottom, maximumGap) && from >= fromIndex && to <= toIndex;
+        }
+
+        protected void set(ILineDataSet set, int modification, long removed, Float top, Float bottom,
+                           float maximumGap, int from, int to, LineDataSet result) {
+
+            this.result = result;
+
+            fromIndex = from;
+            toIndex = to;
+
+            entryCount = set.getEntryCount();
+            modificationCount = modification;
+            removedCount = removed;
+
+            topLimitLine = top;
+            bottomLimitLine = bottom;
+            maximumGapBetweenPoints = maximumGap;
+        }
+
+        private static boolean equals(Float a, Float b) {
+            return a == null ? b == null : a.equals(b);
+        }
     }
 }
@@ -0,0 +1,95 @@
+package com.github.mikephil.charting.renderer;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of the cells of the content rect that were already painted in the current frame, so
+ * that shapes landing on a painted cell can be skipped. The content rect is divided into square cells
+ * of a configurable size in pixels, each cell is one bit. The filter is only exact for shapes of the
+ * same shape, size and color, it must be reset between DataSets.
+ */
+public class OverdrawFilter {
+
+    /** size of a cell in pixels */
+    private float mCellSize = 1f;
+
+    private float mLeft, mTop;
+    private int mColumns, mRows;
+
+    /** one bit per cell, row by row */
+    private long[] mCells = new long[0];
+
+    /** number of words of mCells that are used for the current size */
+    private int mWordCount = 0;
+
+    public OverdrawFilter() {
+    }
+
+    public OverdrawFilter(float cellSize) {
+        setCellSize(cellSize);
+    }
+
+    /**
+     * Sets the size of the cells in pixels. Larger cells skip more shapes, at the cost of gaps between
+     * shapes that are up to one cell apart. Applied with the next reset(...).
+     *
+     * @param cellSize
+     */
+    public void setCellSize(float cellSize) {
+        mCellSize = Math.max(cellSize, 0.1f);
+    }
+
+    public float getCellSize() {
+        return mCellSize;
+    }
+
+    /**
+     * Sizes the filter to the given rect and marks all cells as free.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     */
+    public void reset(float left, float top, float right, float bottom) {
+
+        mLeft = left;
+        mTop = top;
+        mColumns = Math.max((int) Math.ceil((right - left) / mCellSize), 1);
+        mRows = Math.max((int) Math.ceil((bottom - top) / mCellSize), 1);
+
+        mWordCount = (int) (((long) mColumns * mRows + 63) / 64);
+
+        if (mCells.length < mWordCount)
+            mCells = new long[mWordCount];
+        else
+            Arrays.fill(mCells, 0, mWordCount, 0L);
+    }
+
+    /**
+     * Marks the cell of the given pixel as painted. Returns true if the cell was free, false if it was
+     * already painted and the shape can be skipped. Pixels outside of the rect are always drawn.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public boolean mark(float x, float y) {
+
+        int column = (int) ((x - mLeft) / mCellSize);
+        int row = (int) ((y - mTop) / mCellSize);
+
+        if (x < mLeft || y < mTop || column >= mColumns || row >= mRows)
+            return true;
+
+        int cell = row * mColumns + column;
+        int word = cell >>> 6;
+        long bit = 1L << (cell & 63);
+
+        if ((mCells[word] & bit) != 0)
+            return false;
+
+        mCells[word] |= bit;
+        return true;
+    }
+}
@@ -11,6 +11,7 @@ import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IBatchShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -29,10 +30,69 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         mChart = chart;
     }
 
+    /**
+     * skips shapes landing on already painted cells, null if disabled
+     */
+    protected OverdrawFilter mOverdrawFilter;
+
+    /**
+     * the cell size of the overdraw filter in pixels
+     */
+    private float mOverdrawFilterCellSize = 1f;
+
     @Override
     public void initBuffers() {
     }
 
+    /**
+     * If enabled, shapes of single-colored DataSets are only drawn if their center lands on a cell of
+     * the content rect that no shape of the same DataSet was drawn on in the current frame. Bounds the
+     * number of draw calls for very dense scatter plots by the screen area instead of the number of
+     * points. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setOverdrawFilterEnabled(boolean enabled) {
+
+        if (enabled && mOverdrawFilter == null)
+            mOverdrawFilter = new OverdrawFilter(mOverdrawFilterCellSize);
+        else if (!enabled)
+            mOverdrawFilter = null;
+    }
+
+    public boolean isOverdrawFilterEnabled() {
+        return mOverdrawFilter != null;
+    }
+
+    /**
+     * Sets the size of the cells of the overdraw filter in dp, kept while the filter is disabled.
+     * Does not enable the filter. Default: 1px
+     *
+     * @param cellSizeDp
+     */
+    public void setOverdrawFilterCellSize(float cellSizeDp) {
+
+        mOverdrawFilterCellSize = Utils.convertDpToPixel(cellSizeDp);
+
+        if (mOverdrawFilter != null)
+            mOverdrawFilter.setCellSize(mOverdrawFilterCellSize);
+    }
+
+    /**
+     * Returns the overdraw filter reset for the given DataSet, null if it is disabled or the DataSet has
+     * more than one color.
+     */
+    protected OverdrawFilter getOverdrawFilter(IScatterDataSet dataSet) {
+
+        if (mOverdrawFilter == null || dataSet.getColors().size() != 1)
+            return null;
+
+        mOverdrawFilter.reset(mViewPortHandler.contentLeft(), mViewPortHandler.contentTop(),
+                mViewPortHandler.contentRight(), mViewPortHandler.contentBottom());
+
+        return mOverdrawFilter;
+    }
+
     @Override
     public void drawData(Canvas c) {
 
@@ -68,6 +128,13 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
                 (float)dataSet.getEntryCount()));
 
+        if (renderer instanceof IBatchShapeRenderer && dataSet.getColors().size() == 1) {
+            drawDataSetBatched(c, dataSet, (IBatchShapeRenderer) renderer, trans, max);
+            return;
+        }
+
+        OverdrawFilter filter = getOverdrawFilter(dataSet);
+
         for (int i = 0; i < max; i++) {
 
             Entry e = dataSet.getEntryForIndex(i);
@@ -84,6 +151,9 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                     || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
                 continue;
 
+            if (filter != null && !filter.mark(mPixelBuffer[0], mPixelBuffer[1]))
+                continue;
+
             mRenderPaint.setColor(dataSet.getColor(i / 2));
             renderer.renderShape(
                     c, dataSet, mViewPortHandler,
@@ -92,6 +162,62 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * buffer for the pixels of the points drawn by a batch shape renderer
+     */
+    protected float[] mBatchBuffer = new float[0];
+
+    /**
+     * Transforms the first max entries of the given DataSet at once and draws the ones inside the
+     * content rect with a single call to the batch shape renderer.
+     */
+    protected void drawDataSetBatched(Canvas c, IScatterDataSet dataSet, IBatchShapeRenderer renderer,
+                                      Transformer trans, int max) {
+
+        float phaseY = mAnimator.getPhaseY();
+
+        if (mBatchBuffer.length < max * 2)
+            mBatchBuffer = new float[max * 2];
+
+        for (int i = 0; i < max; i++) {
+
+            Entry e = dataSet.getEntryForIndex(i);
+
+            mBatchBuffer[i * 2] = e.getX();
+            mBatchBuffer[i * 2 + 1] = e.getY() * phaseY;
+        }
+
+        trans.pointValuesToPixel(mBatchBuffer, 0, max * 2);
+
+        OverdrawFilter filter = getOverdrawFilter(dataSet);
+
+        // keep the points inside the content rect, in place
+        int count = 0;
+
+        for (int j = 0; j < max * 2; j += 2) {
+
+            if (!mViewPortHandler.isInBoundsRight(mBatchBuffer[j]))
+                break;
+
+            if (!mViewPortHandler.isInBoundsLeft(mBatchBuffer[j])
+                    || !mViewPortHandler.isInBoundsY(mBatchBuffer[j + 1]))
+                continue;
+
+            if (filter != null && !filter.mark(mBatchBuffer[j], mBatchBuffer[j + 1]))
+                continue;
+
+            mBatchBuffer[count * 2] = mBatchBuffer[j];
+            mBatchBuffer[count * 2 + 1] = mBatchBuffer[j + 1];
+            count++;
+        }
+
+        if (count == 0)
+            return;
+
+        mRenderPaint.setColor(dataSet.getColor());
+        renderer.renderShapes(c, dataSet, mViewPortHandler, mBatchBuffer, count, mRenderPaint);
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
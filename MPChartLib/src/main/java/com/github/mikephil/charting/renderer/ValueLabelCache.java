@@ -0,0 +1,102 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.Arrays;
+
+/**
+ * Caches the formatted value labels of entries across frames, so that panning over the same entries
+ * does not format them again. Labels are keyed by the DataSet index, the x-value of the entry, the
+ * formatted value and the formatter instance, so they are also found for DataSets that create their
+ * entries on access. The labels are kept in a fixed size table, a label replaces the one in its slot,
+ * so lookups never allocate. The cache must be cleared when a formatter changes its output without
+ * being replaced (e.g. DefaultValueFormatter.setup(...)).
+ */
+public class ValueLabelCache {
+
+    private final int mMask;
+
+    private final int[] mDataSetIndices;
+    private final int[] mXBits;
+    private final int[] mValueBits;
+    private final IValueFormatter[] mFormatters;
+    private final String[] mTexts;
+
+    /**
+     * @param size the number of labels kept, rounded up to a power of two
+     */
+    public ValueLabelCache(int size) {
+
+        int capacity = Integer.highestOneBit(Math.max(size, 1) - 1) << 1;
+        capacity = Math.max(capacity, 1);
+
+        mMask = capacity - 1;
+        mDataSetIndices = new int[capacity];
+        mXBits = new int[capacity];
+        mValueBits = new int[capacity];
+        mFormatters = new IValueFormatter[capacity];
+        mTexts = new String[capacity];
+    }
+
+    /**
+     * Returns the label of the given value, formatted by the given formatter or taken from the cache.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSetIndex
+     * @param viewPortHandler
+     * @return
+     */
+    public String getFormattedValue(IValueFormatter formatter, float value, Entry entry, int dataSetIndex,
+                                    ViewPortHandler viewPortHandler) {
+
+        if (entry == null)
+            return formatter.getFormattedValue(value, null, dataSetIndex, viewPortHandler);
+
+        int xBits = Float.floatToIntBits(entry.getX());
+        int valueBits = Float.floatToIntBits(value);
+
+        int hash = dataSetIndex;
+        hash = 31 * hash + xBits;
+        hash = 31 * hash + valueBits;
+        hash ^= hash >>> 16;
+
+        int slot = hash & mMask;
+
+        if (mFormatters[slot] == formatter
+                && mXBits[slot] == xBits
+                && mValueBits[slot] == valueBits
+                && mDataSetIndices[slot] == dataSetIndex)
+            return mTexts[slot];
+
+        String text = formatter.getFormattedValue(value, entry, dataSetIndex, viewPortHandler);
+
+        mDataSetIndices[slot] = dataSetIndex;
+        mXBits[slot] = xBits;
+        mValueBits[slot] = valueBits;
+        mFormatters[slot] = formatter;
+        mTexts[slot] = text;
+
+        return text;
+    }
+
+    /**
+     * Removes all labels.
+     */
+    public void clear() {
+        Arrays.fill(mFormatters, null);
+        Arrays.fill(mTexts, null);
+    }
+
+    /**
+     * Returns the number of labels the cache can hold.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mTexts.length;
+    }
+}
@@ -202,7 +202,7 @@ public class XAxisRenderer extends AxisRenderer {
 
             if (mViewPortHandler.isInBoundsX(x)) {
 
-                String label = mXAxis.getValueFormatter().getFormattedValue(mXAxis.mEntries[i / 2], mXAxis);
+                String label = mXAxis.getFormattedLabel(i / 2);
 
                 if (mXAxis.isAvoidFirstLastClippingEnabled()) {
 
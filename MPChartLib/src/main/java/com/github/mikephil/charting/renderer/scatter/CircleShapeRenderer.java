@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CircleShapeRenderer implements IShapeRenderer
+public class CircleShapeRenderer implements IBatchShapeRenderer
 {
 
     @Override
@@ -60,4 +60,43 @@ public class CircleShapeRenderer implements IShapeRenderer
 
     }
 
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] pixels, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeStrokeSize = (shapeSize - shapeHoleSizeHalf * 2.f) / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        // circles without a size are not visible
+        if (shapeSize <= 0.0)
+            return;
+
+        // a transparent hole can not be drawn with points
+        if (shapeHoleSizeHalf > 0.f && shapeHoleColor == ColorTemplate.COLOR_NONE) {
+
+            for (int i = 0; i < count * 2; i += 2) {
+                renderShape(c, dataSet, viewPortHandler, pixels[i], pixels[i + 1], renderPaint);
+            }
+            return;
+        }
+
+        // round points are drawn as filled circles with the stroke width as diameter
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeCap(Paint.Cap.ROUND);
+        renderPaint.setStrokeWidth((shapeHoleSizeHalf + shapeStrokeSize) * 2.f);
+
+        c.drawPoints(pixels, 0, count * 2, renderPaint);
+
+        if (shapeHoleSizeHalf > 0.f) {
+            renderPaint.setColor(shapeHoleColor);
+            renderPaint.setStrokeWidth(shapeHoleSizeHalf * 2.f);
+
+            c.drawPoints(pixels, 0, count * 2, renderPaint);
+        }
+
+        renderPaint.setStrokeCap(Paint.Cap.BUTT);
+    }
 }
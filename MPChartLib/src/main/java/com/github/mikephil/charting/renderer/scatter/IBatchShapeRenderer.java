@@ -0,0 +1,28 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * A shape renderer that can draw the shapes of many points with a few draw calls. Used by the
+ * ScatterChartRenderer for DataSets with a single color, renderShape(...) is used otherwise.
+ */
+public interface IBatchShapeRenderer extends IShapeRenderer
+{
+
+    /**
+     * Renders the shapes of the provided points, all in the current color of the paint.
+     *
+     * @param c               Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param pixels          Positions to draw the shapes at, order: x,y,x,y,...
+     * @param count           Number of points to draw, starting at index 0
+     * @param renderPaint     Paint object used for styling and drawing
+     */
+    void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                      float[] pixels, int count, Paint renderPaint);
+}
@@ -12,9 +12,10 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class SquareShapeRenderer implements IShapeRenderer
+public class SquareShapeRenderer implements IBatchShapeRenderer
 {
 
+    private float[] mLineBuffer = new float[0];
 
     @Override
     public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
@@ -60,4 +61,70 @@ public class SquareShapeRenderer implements IShapeRenderer
                     renderPaint);
         }
     }
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] pixels, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeStrokeSize = (shapeSize - shapeHoleSizeHalf * 2.f) / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        if (shapeSize <= 0.0)
+            return;
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+
+        if (shapeHoleSizeHalf > 0.f && shapeHoleColor == ColorTemplate.COLOR_NONE) {
+
+            // outlines as lines, the horizontal edges are extended to close the corners
+            final float half = shapeHoleSizeHalf + shapeStrokeSize / 2.f;
+            final float outer = shapeHoleSizeHalf + shapeStrokeSize;
+
+            if (mLineBuffer.length < count * 16)
+                mLineBuffer = new float[count * 16];
+
+            int n = 0;
+
+            for (int i = 0; i < count * 2; i += 2) {
+
+                final float x = pixels[i];
+                final float y = pixels[i + 1];
+
+                n = addLine(mLineBuffer, n, x - outer, y - half, x + outer, y - half);
+                n = addLine(mLineBuffer, n, x - outer, y + half, x + outer, y + half);
+                n = addLine(mLineBuffer, n, x - half, y - half, x - half, y + half);
+                n = addLine(mLineBuffer, n, x + half, y - half, x + half, y + half);
+            }
+
+            renderPaint.setStrokeWidth(shapeStrokeSize);
+            c.drawLines(mLineBuffer, 0, n, renderPaint);
+            return;
+        }
+
+        // square points are drawn as filled squares with the stroke width as size
+        renderPaint.setStrokeCap(Paint.Cap.SQUARE);
+        renderPaint.setStrokeWidth((shapeHoleSizeHalf + shapeStrokeSize) * 2.f);
+
+        c.drawPoints(pixels, 0, count * 2, renderPaint);
+
+        if (shapeHoleSizeHalf > 0.f) {
+            renderPaint.setColor(shapeHoleColor);
+            renderPaint.setStrokeWidth(shapeHoleSizeHalf * 2.f);
+
+            c.drawPoints(pixels, 0, count * 2, renderPaint);
+        }
+
+        renderPaint.setStrokeCap(Paint.Cap.BUTT);
+    }
+
+    private static int addLine(float[] buffer, int index, float x0, float y0, float x1, float y1) {
+        buffer[index++] = x0;
+        buffer[index++] = y0;
+        buffer[index++] = x1;
+        buffer[index++] = y1;
+        return index;
+    }
 }
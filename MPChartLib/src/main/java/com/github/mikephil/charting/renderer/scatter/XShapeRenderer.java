@@ -11,9 +11,10 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class XShapeRenderer implements IShapeRenderer
+public class XShapeRenderer implements IBatchShapeRenderer
 {
 
+    private float[] mLineBuffer = new float[0];
 
     @Override
     public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
@@ -39,4 +40,35 @@ public class XShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] pixels, int count, Paint renderPaint) {
+
+        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+
+        if (mLineBuffer.length < count * 8)
+            mLineBuffer = new float[count * 8];
+
+        int n = 0;
+
+        for (int i = 0; i < count * 2; i += 2) {
+
+            final float x = pixels[i];
+            final float y = pixels[i + 1];
+
+            mLineBuffer[n++] = x - shapeHalf;
+            mLineBuffer[n++] = y - shapeHalf;
+            mLineBuffer[n++] = x + shapeHalf;
+            mLineBuffer[n++] = y + shapeHalf;
+            mLineBuffer[n++] = x + shapeHalf;
+            mLineBuffer[n++] = y - shapeHalf;
+            mLineBuffer[n++] = x - shapeHalf;
+            mLineBuffer[n++] = y + shapeHalf;
+        }
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        c.drawLines(mLineBuffer, 0, n, renderPaint);
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree that stores a min- and a max-value per index and answers the minimum and maximum over
+ * a range of indices in O(log n). Setting a value also takes O(log n), the index grows when a value is
+ * set beyond its capacity. Used by DataSets to calculate the y-range of the visible entries without
+ * iterating them.
+ */
+public class RangeMinMaxIndex {
+
+    /**
+     * number of leaves, always a power of two
+     */
+    private int mCapacity;
+
+    /**
+     * the tree, node i has the children 2i and 2i + 1, the leaves start at mCapacity
+     */
+    private float[] mMin;
+    private float[] mMax;
+
+    /**
+     * @param initialCapacity the number of indices that can be set before the tree needs to grow
+     */
+    public RangeMinMaxIndex(int initialCapacity) {
+
+        mCapacity = 1;
+        while (mCapacity < initialCapacity)
+            mCapacity <<= 1;
+
+        mMin = new float[mCapacity * 2];
+        mMax = new float[mCapacity * 2];
+
+        Arrays.fill(mMin, Float.MAX_VALUE);
+        Arrays.fill(mMax, -Float.MAX_VALUE);
+    }
+
+    /**
+     * Sets the min- and max-value of the given index. NaN values are ignored by getMin(...) and
+     * getMax(...), the same way DataSet.calcMinMaxY(...) skips them.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void set(int index, float min, float max) {
+
+        if (index >= mCapacity)
+            grow(index + 1);
+
+        int node = index + mCapacity;
+
+        // store NaN as an empty leaf, Math.min / Math.max would carry it up to the root
+        mMin[node] = Float.isNaN(min) ? Float.MAX_VALUE : min;
+        mMax[node] = Float.isNaN(max) ? -Float.MAX_VALUE : max;
+
+        for (node >>= 1; node > 0; node >>= 1) {
+            mMin[node] = min(mMin[2 * node], mMin[2 * node + 1]);
+            mMax[node] = max(mMax[2 * node], mMax[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Returns the lowest min-value of the indices from and to (inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMin(int from, int to) {
+
+        float min = Float.MAX_VALUE;
+
+        for (int l = from + mCapacity, r = to + mCapacity + 1; l < r; l >>= 1, r >>= 1) {
+
+            if ((l & 1) == 1)
+                min = min(min, mMin[l++]);
+
+            if ((r & 1) == 1)
+                min = min(min, mMin[--r]);
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the highest max-value of the indices from and to (inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMax(int from, int to) {
+
+        float max = -Float.MAX_VALUE;
+
+        for (int l = from + mCapacity, r = to + mCapacity + 1; l < r; l >>= 1, r >>= 1) {
+
+            if ((l & 1) == 1)
+                max = max(max, mMax[l++]);
+
+            if ((r & 1) == 1)
+                max = max(max, mMax[--r]);
+        }
+
+        return max;
+    }
+
+    private void grow(int capacity) {
+
+        int newCapacity = mCapacity;
+        while (newCapacity < capacity)
+            newCapacity <<= 1;
+
+        float[] min = new float[newCapacity * 2];
+        float[] max = new float[newCapacity * 2];
+
+        Arrays.fill(min, Float.MAX_VALUE);
+        Arrays.fill(max, -Float.MAX_VALUE);
+
+        System.arraycopy(mMin, mCapacity, min, newCapacity, mCapacity);
+        System.arraycopy(mMax, mCapacity, max, newCapacity, mCapacity);
+
+        for (int node = newCapacity - 1; node > 0; node--) {
+            min[node] = min(min[2 * node], min[2 * node + 1]);
+            max[node] = max(max[2 * node], max[2 * node + 1]);
+        }
+
+        mCapacity = newCapacity;
+        mMin = min;
+        mMax = max;
+    }
+
+    /**
+     * Returns the lower of both values, a NaN value loses against any other value.
+     */
+    private static float min(float a, float b) {
+        return b < a || Float.isNaN(a) ? b : a;
+    }
+
+    /**
+     * Returns the higher of both values, a NaN value loses against any other value.
+     */
+    private static float max(float a, float b) {
+        return b > a || Float.isNaN(a) ? b : a;
+    }
+}
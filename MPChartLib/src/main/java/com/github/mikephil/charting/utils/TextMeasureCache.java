@@ -0,0 +1,250 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache for text measurements, keyed by the text and the state of the Paint that affects
+ * the measurement: typeface, text size, letter spacing, text scale and skew and the paint flags.
+ * Axis labels, legend labels and values recur every frame, with the cache they are measured once.
+ * Counts hits and misses for tuning the size of the cache.
+ */
+public class TextMeasureCache {
+
+    private int mMaxSize;
+
+    private final LinkedHashMap<Key, Measurement> mEntries = new LinkedHashMap<Key, Measurement>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Measurement> eldest) {
+            return size() > mMaxSize;
+        }
+    };
+
+    /**
+     * key that is reused for lookups, only copied on a miss
+     */
+    private final Key mLookupKey = new Key();
+
+    private final Rect mBoundsBuffer = new Rect();
+
+    private long mHits = 0;
+    private long mMisses = 0;
+
+    /**
+     * @param maxSize the maximum number of measured texts that are kept
+     */
+    public TextMeasureCache(int maxSize) {
+        setMaxSize(maxSize);
+    }
+
+    public synchronized void setMaxSize(int maxSize) {
+
+        mMaxSize = Math.max(maxSize, 1);
+
+        while (mEntries.size() > mMaxSize) {
+            mEntries.remove(mEntries.keySet().iterator().next());
+        }
+    }
+
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * Returns the width of the given text as measured by Paint.measureText(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized float measureWidth(Paint paint, String text) {
+
+        Measurement m = get(paint, text);
+
+        if (Float.isNaN(m.width)) {
+            m.width = paint.measureText(text);
+            mMisses++;
+        } else {
+            mHits++;
+        }
+
+        return m.width;
+    }
+
+    /**
+     * Returns the width and height of the bounds of the given text as measured by
+     * Paint.getTextBounds(...) in the given FSize.
+     *
+     * @param paint
+     * @param text
+     * @param outputFSize
+     */
+    public synchronized void measureBounds(Paint paint, String text, FSize outputFSize) {
+
+        Measurement m = getWithBounds(paint, text);
+
+        outputFSize.width = m.boundsWidth;
+        outputFSize.height = m.boundsHeight;
+    }
+
+    /**
+     * Returns the height of the bounds of the given text as measured by Paint.getTextBounds(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized int measureHeight(Paint paint, String text) {
+        return getWithBounds(paint, text).boundsHeight;
+    }
+
+    private Measurement getWithBounds(Paint paint, String text) {
+
+        Measurement m = get(paint, text);
+
+        if (!m.hasBounds) {
+
+            Rect r = mBoundsBuffer;
+            r.set(0, 0, 0, 0);
+            paint.getTextBounds(text, 0, text.length(), r);
+
+            m.boundsWidth = r.width();
+            m.boundsHeight = r.height();
+            m.hasBounds = true;
+            mMisses++;
+        } else {
+            mHits++;
+        }
+
+        return m;
+    }
+
+    private Measurement get(Paint paint, String text) {
+
+        mLookupKey.set(paint, text);
+
+        Measurement m = mEntries.get(mLookupKey);
+
+        if (m == null) {
+            Key key = new Key();
+            key.set(mLookupKey);
+            m = new Measurement();
+            mEntries.put(key, m);
+        }
+
+        return m;
+    }
+
+    /**
+     * Removes all measurements, e.g. after fonts were changed in a way the key does not cover.
+     */
+    public synchronized void clear() {
+        mEntries.clear();
+    }
+
+    public synchronized int size() {
+        return mEntries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return mHits;
+    }
+
+    public synchronized long getMissCount() {
+        return mMisses;
+    }
+
+    /**
+     * Returns the share of measurements that were served from the cache, 0 if there were none.
+     *
+     * @return
+     */
+    public synchronized float getHitRate() {
+        long total = mHits + mMisses;
+        return total == 0 ? 0f : (float) mHits / total;
+    }
+
+    public synchronized void resetStats() {
+        mHits = 0;
+        mMisses = 0;
+    }
+
+    private static final class Key {
+
+        private String text;
+        private Typeface typeface;
+        private float textSize, letterSpacing, textScaleX, textSkewX;
+        private int flags;
+        private int hash;
+
+        void set(Paint paint, String text) {
+            this.text = text;
+            this.typeface = paint.getTypeface();
+            this.textSize = paint.getTextSize();
+            this.letterSpacing = paint.getLetterSpacing();
+            this.textScaleX = paint.getTextScaleX();
+            this.textSkewX = paint.getTextSkewX();
+            this.flags = paint.getFlags();
+            computeHash();
+        }
+
+        void set(Key other) {
+            this.text = other.text;
+            this.typeface = other.typeface;
+            this.textSize = other.textSize;
+            this.letterSpacing = other.letterSpacing;
+            this.textScaleX = other.textScaleX;
+            this.textSkewX = other.textSkewX;
+            this.flags = other.flags;
+            this.hash = other.hash;
+        }
+
+        private void computeHash() {
+            int h = text.hashCode();
+            h = 31 * h + System.identityHashCode(typeface);
+            h = 31 * h + Float.floatToIntBits(textSize);
+            h = 31 * h + Float.floatToIntBits(letterSpacing);
+            h = 31 * h + Float.floatToIntBits(textScaleX);
+            h = 31 * h + Float.floatToIntBits(textSkewX);
+            h = 31 * h + flags;
+            hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key k = (Key) o;
+
+            return hash == k.hash
+                    && typeface == k.typeface
+                    && textSize == k.textSize
+                    && letterSpacing == k.letterSpacing
+                    && textScaleX == k.textScaleX
+                    && textSkewX == k.textSkewX
+                    && flags == k.flags
+                    && text.equals(k.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Measurement {
+
+        private float width = Float.NaN;
+        private int boundsWidth, boundsHeight;
+        private boolean hasBounds = false;
+    }
+}
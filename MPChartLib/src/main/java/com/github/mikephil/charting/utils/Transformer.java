@@ -6,6 +6,7 @@ import android.graphics.Path;
 import android.graphics.RectF;
 
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
@@ -179,6 +180,21 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
+        if (data instanceof ColumnarLineDataSet) {
+
+            // read the columns directly, getEntryForIndex(...) would create an Entry per value
+            ColumnarLineDataSet columnar = (ColumnarLineDataSet) data;
+
+            for (int j = 0; j < count; j += 2) {
+                valuePoints[j] = columnar.getX(j / 2 + min);
+                valuePoints[j + 1] = columnar.getY(j / 2 + min) * phaseY;
+            }
+
+            getValueToPixelMatrix().mapPoints(valuePoints);
+
+            return valuePoints;
+        }
+
         for (int j = 0; j < count; j += 2) {
 
             Entry e = data.getEntryForIndex(j / 2 + min);
@@ -272,6 +288,26 @@ public class Transformer {
         mMatrixOffset.mapPoints(pts);
     }
 
+    /**
+     * Transforms the points of the given array between the given float indices with all matrices,
+     * leaving the others untouched.
+     *
+     * @param pts
+     * @param from index of the x-value of the first point
+     * @param to   index after the y-value of the last point
+     */
+    public void pointValuesToPixel(float[] pts, int from, int to) {
+
+        int count = (to - from) / 2;
+
+        if (count <= 0)
+            return;
+
+        mMatrixValueToPx.mapPoints(pts, from, pts, from, count);
+        mViewPortHandler.getMatrixTouch().mapPoints(pts, from, pts, from, count);
+        mMatrixOffset.mapPoints(pts, from, pts, from, count);
+    }
+
     /**
      * Transform a rectangle with all matrices.
      *
@@ -145,9 +145,45 @@ public abstract class Utils {
      * @return
      */
     public static int calcTextWidth(Paint paint, String demoText) {
+
+        TextMeasureCache cache = mTextMeasureCache;
+
+        if (cache != null)
+            return (int) cache.measureWidth(paint, demoText);
+
         return (int) paint.measureText(demoText);
     }
 
+    /**
+     * cache for the measurements of calcTextWidth(...), calcTextHeight(...) and calcTextSize(...),
+     * null if disabled
+     */
+    private static TextMeasureCache mTextMeasureCache = new TextMeasureCache(512);
+
+    /**
+     * Enables or disables caching the results of calcTextWidth(...), calcTextHeight(...) and
+     * calcTextSize(...). Enabled by default.
+     *
+     * @param enabled
+     */
+    public static void setTextMeasureCacheEnabled(boolean enabled) {
+
+        if (enabled && mTextMeasureCache == null)
+            mTextMeasureCache = new TextMeasureCache(512);
+        else if (!enabled)
+            mTextMeasureCache = null;
+    }
+
+    /**
+     * Returns the cache of the text measurements, e.g. to read its hit rate or change its size, null
+     * if disabled.
+     *
+     * @return
+     */
+    public static TextMeasureCache getTextMeasureCache() {
+        return mTextMeasureCache;
+    }
+
     private static Rect mCalcTextHeightRect = new Rect();
     /**
      * calculates the approximate height of a text, depending on a demo text
@@ -159,6 +195,11 @@ public abstract class Utils {
      */
     public static int calcTextHeight(Paint paint, String demoText) {
 
+        TextMeasureCache cache = mTextMeasureCache;
+
+        if (cache != null)
+            return cache.measureHeight(paint, demoText);
+
         Rect r = mCalcTextHeightRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
@@ -212,6 +253,13 @@ public abstract class Utils {
      */
     public static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
 
+        TextMeasureCache cache = mTextMeasureCache;
+
+        if (cache != null) {
+            cache.measureBounds(paint, demoText, outputFSize);
+            return;
+        }
+
         Rect r = mCalcTextSizeRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
@@ -1,14 +1,19 @@
 package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.LargestTriangleThreeBuckets;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +45,81 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testIterativeApproximation() {
+
+        // random walk, long enough to be split across tasks
+        Random random = new Random(5);
+        float[] points = new float[40000 * 2];
+
+        for (int i = 0, y = 0; i < points.length; i += 2) {
+            y += random.nextInt(21) - 10;
+            points[i] = i / 2;
+            points[i + 1] = y;
+        }
+
+        Approximator a = new Approximator();
+
+        float[] expected = a.reduceWithDouglasPeucker(points, 20f);
+        float[] iterative = a.reduceWithDouglasPeucker(points, 20f, null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        float[] parallel;
+
+        try {
+            parallel = a.reduceWithDouglasPeucker(points, 20f, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(expected.length, iterative.length);
+        assertEquals(expected.length, parallel.length);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], iterative[i], 0f);
+            assertEquals(expected[i], parallel[i], 0f);
+        }
+    }
+
+    @Test
+    public void testLargestTriangleThreeBuckets() {
+
+        float[] points = new float[]{
+                0, 0,
+                1, 1,
+                2, 10,
+                3, 1,
+                4, 0,
+                5, -10,
+                6, 0};
+
+        LargestTriangleThreeBuckets lttb = new LargestTriangleThreeBuckets();
+
+        float[] reduced = lttb.reduce(points, 4);
+
+        assertEquals(8, reduced.length);
+
+        // first and last point are kept, the peaks are picked from the two buckets
+        assertEquals(0f, reduced[0], 0f);
+        assertEquals(2f, reduced[2], 0f);
+        assertEquals(10f, reduced[3], 0f);
+        assertEquals(5f, reduced[4], 0f);
+        assertEquals(-10f, reduced[5], 0f);
+        assertEquals(6f, reduced[6], 0f);
+
+        assertSame(points, lttb.reduce(points, 7));
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < points.length; i += 2) {
+            entries.add(new Entry(points[i], points[i + 1]));
+        }
+
+        List<Entry> reducedEntries = lttb.reduce(new LineDataSet(entries, ""), 4);
+
+        assertEquals(4, reducedEntries.size());
+        assertSame(entries.get(0), reducedEntries.get(0));
+        assertSame(entries.get(2), reducedEntries.get(1));
+        assertSame(entries.get(5), reducedEntries.get(2));
+        assertSame(entries.get(6), reducedEntries.get(3));
+    }
 }
@@ -1,12 +1,15 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
 import com.github.mikephil.charting.renderer.AxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 
 import org.junit.Test;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
 
 /**
  * Created by philipp on 31/05/16.
@@ -102,4 +105,67 @@ public class AxisRendererTest {
         assertEquals(30, entries[2], 0.0001);
         assertEquals(90, entries[entries.length - 1], 0.0001);
     }
+
+    @Test
+    public void testComputeAxisValuesReuse() {
+
+        YAxis yAxis = new YAxis();
+        yAxis.setLabelCount(6);
+        AxisRenderer renderer = new YAxisRenderer(null, yAxis, null);
+
+        renderer.computeAxis(0, 100, false);
+        double[] entries = yAxis.mEntries;
+
+        // unchanged extremes and settings keep the computed values
+        yAxis.mEntries[0] = -1;
+        renderer.computeAxis(0, 100, false);
+        assertSame(entries, yAxis.mEntries);
+        assertEquals(-1, yAxis.mEntries[0], 0.0001);
+
+        // a changed label setting computes them again, reusing the array
+        yAxis.setGranularity(10f);
+        renderer.computeAxis(0, 100, false);
+        assertSame(entries, yAxis.mEntries);
+        assertEquals(0, yAxis.mEntries[0], 0.0001);
+
+        yAxis.mEntries[0] = -1;
+        renderer.invalidateAxisValues();
+        renderer.computeAxis(0, 100, false);
+        assertEquals(0, yAxis.mEntries[0], 0.0001);
+    }
+
+    @Test
+    public void testFormattedLabelCache() {
+
+        final int[] calls = new int[1];
+
+        YAxis yAxis = new YAxis();
+        yAxis.setValueFormatter(new IAxisValueFormatter() {
+            @Override
+            public String getFormattedValue(double value, AxisBase axis) {
+                calls[0]++;
+                return String.valueOf(value);
+            }
+        });
+
+        yAxis.mEntries = new double[]{0, 20, 40};
+        yAxis.getFormattedLabel(1);
+        yAxis.getFormattedLabel(1);
+        assertEquals(2, calls[0]);
+
+        yAxis.setLabelCacheEnabled(true);
+        String label = yAxis.getFormattedLabel(1);
+        assertSame(label, yAxis.getFormattedLabel(1));
+        assertEquals(3, calls[0]);
+
+        // labels are found by their value after moving to another index
+        yAxis.mEntries = new double[]{20, 40, 60};
+        assertSame(label, yAxis.getFormattedLabel(0));
+        assertEquals("60.0", yAxis.getFormattedLabel(2));
+        assertEquals(4, calls[0]);
+
+        yAxis.invalidateFormattedLabels();
+        yAxis.getFormattedLabel(0);
+        assertEquals(5, calls[0]);
+    }
 }
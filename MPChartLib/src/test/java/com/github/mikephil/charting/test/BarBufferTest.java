@@ -0,0 +1,210 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class BarBufferTest {
+
+    @Test
+    public void testLimitedFeed() {
+
+        List<BarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BarEntry(i, i + 1));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+
+        BarBuffer buffer = new BarBuffer(entries.size() * 4, 1, false);
+        buffer.setBarWidth(0.5f);
+
+        buffer.feed(set);
+
+        assertEquals(0, buffer.getStart());
+        assertEquals(400, buffer.getEnd());
+
+        buffer.limit(10, 19);
+        buffer.feed(set);
+
+        // the bars keep their position in the buffer
+        assertEquals(40, buffer.getStart());
+        assertEquals(80, buffer.getEnd());
+        assertEquals(9.75f, buffer.buffer[40], 0f);
+        assertEquals(11f, buffer.buffer[41], 0f);
+        assertEquals(19.25f, buffer.buffer[78], 0f);
+
+        buffer.limit(95, 120);
+        buffer.feed(set);
+
+        assertEquals(380, buffer.getStart());
+        assertEquals(400, buffer.getEnd());
+
+        buffer.clearLimit();
+        buffer.feed(set);
+
+        assertEquals(0, buffer.getStart());
+        assertEquals(400, buffer.getEnd());
+    }
+
+    @Test
+    public void testSnapshotFeed() {
+
+        List<BarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BarEntry(i, i + 1));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+
+        BarBuffer limited = new BarBuffer(entries.size() * 4, 1, false);
+        limited.setBarWidth(0.5f);
+        limited.limit(10, 19);
+        limited.feed(set);
+
+        BarEntry[] snapshot = entries.subList(10, 20).toArray(new BarEntry[20]);
+
+        BarBuffer buffer = new BarBuffer(20 * 4, 1, false);
+        buffer.setBarWidth(0.5f);
+        buffer.feed(snapshot, 10, 10);
+
+        // the bars of the snapshot are at the same positions as with a limited feed of the DataSet
+        assertEquals(limited.getStart(), buffer.getStart());
+        assertEquals(limited.getEnd(), buffer.getEnd());
+
+        for (int i = buffer.getStart(); i < buffer.getEnd(); i++)
+            assertEquals(limited.buffer[i], buffer.buffer[i], 0f);
+    }
+
+    @Test
+    public void testIncrementalFeed() {
+
+        List<BarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(new BarEntry(i, i + 1));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+        Transformer trans = new Transformer(new ViewPortHandler());
+
+        BarBuffer buffer = new BarBuffer(20 * 4, 1, false);
+        buffer.setBarWidth(0.5f);
+
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 9);
+
+        assertEquals(0, buffer.getStart());
+        assertEquals(40, buffer.getEnd());
+        assertEquals(4f, buffer.buffer[13], 0f);
+
+        // modified in place without being reported, the old rect is kept
+        entries.get(3).setY(7f);
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 9);
+        assertEquals(4f, buffer.buffer[13], 0f);
+
+        // reported and appended entries are recomputed
+        buffer.invalidateEntries(3, 3);
+        entries.add(new BarEntry(10, 20f));
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 2, 10);
+
+        assertEquals(8, buffer.getStart());
+        assertEquals(44, buffer.getEnd());
+        assertEquals(7f, buffer.buffer[13], 0f);
+        assertEquals(9.75f, buffer.buffer[40], 0f);
+        assertEquals(20f, buffer.buffer[41], 0f);
+
+        // a changed bar width recomputes everything
+        buffer.setBarWidth(1f);
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 10);
+        assertEquals(-0.5f, buffer.buffer[0], 0f);
+        assertEquals(10.5f, buffer.buffer[42], 0f);
+    }
+
+    @Test
+    public void testIncrementalFeedStacked() {
+
+        List<BarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(new BarEntry(i, new float[]{1f, 2f}));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+        Transformer trans = new Transformer(new ViewPortHandler());
+
+        BarBuffer buffer = new BarBuffer(5 * 4 * 3, 1, true);
+        buffer.setBarWidth(0.5f);
+
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 4);
+        assertEquals(40, buffer.getEnd());
+
+        // the stack of the second entry grows, the following bars move
+        entries.set(1, new BarEntry(1, new float[]{1f, 2f, 3f}));
+        buffer.invalidateEntries(1, 1);
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 4);
+
+        assertEquals(44, buffer.getEnd());
+        assertEquals(6f, buffer.buffer[17], 0f);
+        assertEquals(0.75f, buffer.buffer[16], 0f);
+        assertEquals(1.75f, buffer.buffer[20], 0f);
+        assertEquals(1f, buffer.buffer[21], 0f);
+        assertEquals(4.25f, buffer.buffer[42], 0f);
+    }
+
+    @Test
+    public void testIncrementalFeedRemovals() {
+
+        List<BarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(new BarEntry(i, i + 1));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+        Transformer trans = new Transformer(new ViewPortHandler());
+
+        BarBuffer buffer = new BarBuffer(20 * 4, 1, false);
+        buffer.setBarWidth(0.5f);
+
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 9);
+
+        // sliding window, the kept rects move to the front
+        set.removeFirst();
+        set.removeFirst();
+        set.addEntry(new BarEntry(10, 11f));
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 8);
+
+        assertEquals(0, buffer.getStart());
+        assertEquals(36, buffer.getEnd());
+        assertEquals(1.75f, buffer.buffer[0], 0f);
+        assertEquals(3f, buffer.buffer[1], 0f);
+        assertEquals(9.75f, buffer.buffer[32], 0f);
+        assertEquals(11f, buffer.buffer[33], 0f);
+
+        // removed in the middle and appended in the same tick
+        set.removeEntry(entries.get(3));
+        set.addEntry(new BarEntry(11, 12f));
+        buffer.feedIncremental(set);
+        buffer.transformIncremental(trans, 0, 8);
+
+        assertEquals(36, buffer.getEnd());
+        assertEquals(5.75f, buffer.buffer[12], 0f);
+        assertEquals(7f, buffer.buffer[13], 0f);
+        assertEquals(10.75f, buffer.buffer[32], 0f);
+        assertEquals(12f, buffer.buffer[33], 0f);
+    }
+}
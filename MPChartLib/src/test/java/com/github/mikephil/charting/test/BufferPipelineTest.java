@@ -0,0 +1,105 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.renderer.BufferPipeline;
+import com.github.mikephil.charting.renderer.LayerCompositor;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class BufferPipelineTest {
+
+    @Test
+    public void testPreparedFrame() throws InterruptedException {
+
+        final CountDownLatch ready = new CountDownLatch(1);
+
+        BufferPipeline<float[], float[]> pipeline = new BufferPipeline<>(new BufferPipeline.Preparer<float[], float[]>() {
+            @Override
+            public float[] prepare(float[] source, BufferPipeline.Viewport viewport, float[] reuse) {
+                return new float[]{viewport.getPhaseX(), viewport.getPhaseY(), source[0]};
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                ready.countDown();
+            }
+        });
+
+        LayerCompositor.State state = new LayerCompositor.State().add(1).add(2f);
+        Matrix matrix = new Matrix();
+
+        assertNull(pipeline.acquire(state));
+
+        float[] source = new float[]{3f};
+        pipeline.request(state, source, matrix, matrix, matrix, 0.5f, 1f);
+
+        assertTrue(ready.await(5, TimeUnit.SECONDS));
+
+        // the prepared source can be reused
+        assertSame(source, pipeline.obtainSource());
+        assertNull(pipeline.obtainSource());
+
+        // only a frame for the same state is returned
+        assertNull(pipeline.acquire(new LayerCompositor.State().add(1).add(3f)));
+
+        BufferPipeline.Frame<float[]> frame = pipeline.acquire(state);
+        assertNotNull(frame);
+        assertEquals(0.5f, frame.getBuffers()[0], 0f);
+        assertEquals(1f, frame.getBuffers()[1], 0f);
+        assertEquals(3f, frame.getBuffers()[2], 0f);
+        pipeline.release();
+
+        pipeline.invalidate();
+        assertNull(pipeline.acquire(state));
+    }
+
+    @Test
+    public void testErrorInPreparer() throws InterruptedException {
+
+        final CountDownLatch failed = new CountDownLatch(1);
+        final CountDownLatch ready = new CountDownLatch(1);
+
+        BufferPipeline<float[], float[]> pipeline = new BufferPipeline<>(new BufferPipeline.Preparer<float[], float[]>() {
+            @Override
+            public float[] prepare(float[] source, BufferPipeline.Viewport viewport, float[] reuse) {
+
+                if (failed.getCount() > 0) {
+                    failed.countDown();
+                    throw new StackOverflowError();
+                }
+
+                return new float[]{viewport.getPhaseX()};
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                ready.countDown();
+            }
+        });
+
+        LayerCompositor.State state = new LayerCompositor.State().add(1);
+        Matrix matrix = new Matrix();
+
+        pipeline.request(state, new float[1], matrix, matrix, matrix, 1f, 1f);
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+        // the failed preparation must not keep later requests from being prepared
+        long timeout = System.currentTimeMillis() + 5000;
+        while (ready.getCount() > 0 && System.currentTimeMillis() < timeout) {
+            pipeline.request(state, new float[1], matrix, matrix, matrix, 1f, 1f);
+            ready.await(50, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(ready.getCount() == 0);
+    }
+}
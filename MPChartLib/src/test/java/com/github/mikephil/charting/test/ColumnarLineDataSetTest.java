@@ -0,0 +1,116 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class ColumnarLineDataSetTest {
+
+    @Test
+    public void testCalcMinMax() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(new float[]{10, 15, 21}, new float[]{10, 2, 5}, "");
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        set.addEntry(25, 1);
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(25f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+
+        set.removeEntry(3);
+
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+
+        set.calcMinMaxY(15, 21);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testAddRemoveEntry() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(4, "");
+
+        for (int i = 0; i < 100; i++) {
+            set.addEntry(new Entry(i, i * 2));
+        }
+
+        assertEquals(100, set.getEntryCount());
+        assertEquals(198f, set.getEntryForIndex(99).getY(), 0.01f);
+
+        set.addEntryOrdered(new Entry(10.5f, -1));
+
+        assertEquals(101, set.getEntryCount());
+        assertEquals(10.5f, set.getX(11), 0.01f);
+        assertEquals(-1f, set.getYMin(), 0.01f);
+
+        assertTrue(set.contains(new Entry(10.5f, -1)));
+        assertTrue(set.removeEntry(new Entry(10.5f, -1)));
+        assertFalse(set.contains(new Entry(10.5f, -1)));
+        assertEquals(0f, set.getYMin(), 0.01f);
+
+        assertTrue(set.removeFirst());
+        assertEquals(1f, set.getXMin(), 0.01f);
+
+        assertTrue(set.removeLast());
+        assertEquals(98f, set.getXMax(), 0.01f);
+        assertEquals(98, set.getEntryCount());
+
+        set.clear();
+
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeFirst());
+        assertEquals(-1, set.getEntryIndex(5, Float.NaN, DataSet.Rounding.CLOSEST));
+    }
+
+    @Test
+    public void testLookupMatchesLineDataSet() {
+
+        List<Entry> entries = new ArrayList<>();
+        entries.add(new Entry(1, 10));
+        entries.add(new Entry(2, 20));
+        entries.add(new Entry(2, 25));
+        entries.add(new Entry(5, 5));
+        entries.add(new Entry(5.5f, 15));
+        entries.add(new Entry(9, 30));
+
+        LineDataSet reference = new LineDataSet(entries, "");
+        ColumnarLineDataSet set = new ColumnarLineDataSet(entries, "");
+
+        float[] xValues = new float[]{-1, 1, 1.4f, 1.5f, 2, 3, 3.5f, 4, 5.2f, 7, 9, 12};
+        float[] yValues = new float[]{Float.NaN, 0, 22, 30};
+
+        for (float x : xValues) {
+            for (float y : yValues) {
+                for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+                    assertEquals(reference.getEntryIndex(x, y, rounding), set.getEntryIndex(x, y, rounding));
+                }
+            }
+
+            assertEquals(reference.getEntriesForXValue(x).size(), set.getEntriesForXValue(x).size());
+        }
+
+        assertEquals(2, set.getEntryIndex(new Entry(2, 25)));
+        assertEquals(-1, set.getEntryIndex(new Entry(2, 26)));
+        assertNull(new ColumnarLineDataSet("").getEntryForXValue(1, Float.NaN));
+    }
+}
@@ -1,16 +1,21 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LodPyramid;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
 import com.github.mikephil.charting.data.ScatterDataSet;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
 /**
@@ -235,4 +240,194 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testCalcMinMaxYWithRangeIndex() {
+
+        Random random = new Random(7);
+
+        ScatterDataSet reference = new ScatterDataSet(null, "");
+        ScatterDataSet indexed = new ScatterDataSet(null, "");
+        ColumnarLineDataSet columnar = new ColumnarLineDataSet("");
+        RingBufferLineDataSet ring = new RingBufferLineDataSet(300, "");
+
+        indexed.setYRangeIndexEnabled(true);
+        columnar.setYRangeIndexEnabled(true);
+        ring.setYRangeIndexEnabled(true);
+
+        for (int i = 0; i < 500; i++) {
+
+            float y = random.nextFloat() * 100f;
+
+            reference.addEntry(new Entry(i, y));
+            indexed.addEntry(new Entry(i, y));
+            columnar.addEntry(i, y);
+            ring.addEntry(i, y);
+
+            if (i % 50 == 0) {
+                reference.removeEntry(i / 2);
+                indexed.removeEntry(i / 2);
+                columnar.removeEntry(i / 2);
+            }
+
+            float from = random.nextFloat() * i;
+            float to = from + random.nextFloat() * 100f;
+
+            reference.calcMinMaxY(from, to);
+            indexed.calcMinMaxY(from, to);
+            columnar.calcMinMaxY(from, to);
+
+            assertEquals(reference.getYMin(), indexed.getYMin(), 0f);
+            assertEquals(reference.getYMax(), indexed.getYMax(), 0f);
+            assertEquals(reference.getYMin(), columnar.getYMin(), 0f);
+            assertEquals(reference.getYMax(), columnar.getYMax(), 0f);
+
+            ring.calcMinMaxY(from, to);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            int indexFrom = ring.getEntryIndex(from, Float.NaN, DataSet.Rounding.DOWN);
+            int indexTo = ring.getEntryIndex(to, Float.NaN, DataSet.Rounding.UP);
+
+            for (int j = indexFrom; j <= indexTo; j++) {
+                min = Math.min(min, ring.getY(j));
+                max = Math.max(max, ring.getY(j));
+            }
+
+            assertEquals(min, ring.getYMin(), 0f);
+            assertEquals(max, ring.getYMax(), 0f);
+        }
+    }
+
+
+    @Test
+    public void testCalcMinMaxYWithRangeIndexAndNaN() {
+
+        Random random = new Random(11);
+
+        ScatterDataSet reference = new ScatterDataSet(null, "");
+        ScatterDataSet indexed = new ScatterDataSet(null, "");
+        ColumnarLineDataSet columnar = new ColumnarLineDataSet("");
+        RingBufferLineDataSet ring = new RingBufferLineDataSet(100, "");
+
+        indexed.setYRangeIndexEnabled(true);
+        columnar.setYRangeIndexEnabled(true);
+        ring.setYRangeIndexEnabled(true);
+
+        for (int i = 0; i < 300; i++) {
+
+            // gaps in the data, including runs of several NaN values
+            float y = i % 7 == 0 || i % 50 < 5 ? Float.NaN : random.nextFloat() * 100f;
+
+            reference.addEntry(new Entry(i, y));
+            indexed.addEntry(new Entry(i, y));
+            columnar.addEntry(i, y);
+            ring.addEntry(i, y);
+
+            float from = random.nextFloat() * i;
+            float to = from + random.nextFloat() * 20f;
+
+            reference.calcMinMaxY(from, to);
+            indexed.calcMinMaxY(from, to);
+            columnar.calcMinMaxY(from, to);
+
+            assertFalse(Float.isNaN(indexed.getYMin()));
+            assertFalse(Float.isNaN(indexed.getYMax()));
+
+            assertEquals(reference.getYMin(), indexed.getYMin(), 0f);
+            assertEquals(reference.getYMax(), indexed.getYMax(), 0f);
+            assertEquals(reference.getYMin(), columnar.getYMin(), 0f);
+            assertEquals(reference.getYMax(), columnar.getYMax(), 0f);
+
+            ring.calcMinMaxY(from, to);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            int indexFrom = ring.getEntryIndex(from, Float.NaN, DataSet.Rounding.DOWN);
+            int indexTo = ring.getEntryIndex(to, Float.NaN, DataSet.Rounding.UP);
+
+            for (int j = indexFrom; j <= indexTo; j++) {
+
+                if (ring.getY(j) < min)
+                    min = ring.getY(j);
+
+                if (ring.getY(j) > max)
+                    max = ring.getY(j);
+            }
+
+            assertEquals(min, ring.getYMin(), 0f);
+            assertEquals(max, ring.getYMax(), 0f);
+        }
+    }
+    @Test
+    public void testGetEntryIndex() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new Entry(i / 2, i));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(i, set.getEntryIndex(entries.get(i)));
+        }
+
+        assertEquals(-1, set.getEntryIndex(new Entry(10, 20)));
+        assertEquals(-1, set.getEntryIndex(null));
+
+        // unordered entries are still found
+        Entry unordered = new Entry(-5, 0);
+        set.getEntries().add(unordered);
+
+        assertEquals(100, set.getEntryIndex(unordered));
+    }
+
+    @Test
+    public void testLodPyramid() {
+
+        Random random = new Random(11);
+
+        List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < 5000; i++) {
+            entries.add(new Entry(i, random.nextFloat() * 100f - 50f));
+        }
+
+        ScatterDataSet reference = new ScatterDataSet(new ArrayList<Entry>(entries), "");
+        ScatterDataSet set = new ScatterDataSet(new ArrayList<Entry>(entries), "");
+        set.setLodPyramidEnabled(true);
+
+        LodPyramid pyramid = set.getLodPyramid();
+
+        assertEquals(5000, pyramid.getEntryCount());
+        assertEquals(313, pyramid.getBucketCount(0));
+        assertEquals(1, pyramid.getBucketCount(pyramid.getLevelCount() - 1));
+        assertEquals(set.getYMin(), pyramid.getMinY(0, 312), 0f);
+        assertEquals(set.getYMax(), pyramid.getMaxY(0, 312), 0f);
+
+        // 5000 entries on 100 pixels, 32 entries per bucket is the coarsest level with a bucket per pixel
+        assertEquals(1, pyramid.getLevelForPixels(5000, 100));
+        assertEquals(-1, pyramid.getLevelForPixels(1000, 100));
+
+        for (int i = 0; i < 200; i++) {
+
+            float from = random.nextFloat() * 5000f;
+            float to = from + random.nextFloat() * 2000f;
+
+            reference.calcMinMaxY(from, to);
+            set.calcMinMaxY(from, to);
+
+            assertEquals(reference.getYMin(), set.getYMin(), 0f);
+            assertEquals(reference.getYMax(), set.getYMax(), 0f);
+        }
+
+        // adding an entry invalidates the pyramid until the DataSet is notified
+        set.addEntry(new Entry(5000, 0));
+        assertNull(set.getLodPyramid());
+
+        set.notifyDataSetChanged();
+        assertEquals(5001, set.getLodPyramid().getEntryCount());
+    }
 }
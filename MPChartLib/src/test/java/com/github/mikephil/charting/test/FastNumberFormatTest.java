@@ -0,0 +1,187 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.FastNumberFormat;
+import com.github.mikephil.charting.formatter.LargeValueFormatter;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+
+public class FastNumberFormatTest {
+
+    private static final double[] SPECIAL_VALUES = {
+            0.0, -0.0, 0.001, -0.001, 0.125, 0.375, 0.285, 0.265, 1.005, 2.5, 3.5, -2.5, 0.5, 1.0,
+            999.995, 1234567.891, -1234.5, 1e14, 1e15, 1e20, 123456789012345.67, Double.NaN,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE,
+            Float.MAX_VALUE, 0.1f, 0.7f, 16777217f
+    };
+
+    @Test
+    public void testMatchesDecimalFormat() {
+        checkMatchesDecimalFormat();
+    }
+
+    private static void checkMatchesDecimalFormat() {
+
+        Random random = new Random(1234);
+
+        for (int decimals = 0; decimals <= 5; decimals++) {
+
+            DecimalFormat reference = new DecimalFormat(FastNumberFormat.getPattern(decimals));
+            FastNumberFormat format = new FastNumberFormat(decimals);
+
+            for (double value : SPECIAL_VALUES) {
+                assertEquals(reference.format(value), format.format(value));
+            }
+
+            for (int i = 0; i < 20000; i++) {
+
+                double value;
+
+                switch (i % 4) {
+                    case 0:
+                        value = (random.nextDouble() - 0.5) * 2000.0;
+                        break;
+                    case 1:
+                        value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16));
+                        break;
+                    case 2:
+                        // values on and next to ties
+                        value = (random.nextInt(200000) - 100000 + 0.5) / Math.pow(10, decimals);
+                        break;
+                    default:
+                        value = (float) ((random.nextDouble() - 0.5) * 1e6);
+                        break;
+                }
+
+                assertEquals(reference.format(value), format.format(value));
+                assertEquals(reference.format(value) + " %", format.format(value, " %"));
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultFormatters() {
+        checkDefaultFormatters();
+    }
+
+    private static void checkDefaultFormatters() {
+
+        DefaultValueFormatter valueFormatter = new DefaultValueFormatter(2);
+        DefaultAxisValueFormatter axisFormatter = new DefaultAxisValueFormatter(1);
+
+        DecimalFormat reference2 = new DecimalFormat("###,###,###,##0.00");
+        DecimalFormat reference1 = new DecimalFormat("###,###,###,##0.0");
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10000; i++) {
+
+            float value = (random.nextFloat() - 0.5f) * (float) Math.pow(10, random.nextInt(10));
+
+            assertEquals(reference2.format(value), valueFormatter.getFormattedValue(value, null, 0, null));
+            assertEquals(reference1.format(value), axisFormatter.getFormattedValue(value, null));
+        }
+    }
+
+    @Test
+    public void testReplacedFormat() {
+
+        DefaultValueFormatter valueFormatter = new DefaultValueFormatter(2) {
+            {
+                mFormat = new DecimalFormat("0.000");
+            }
+        };
+
+        DefaultAxisValueFormatter axisFormatter = new DefaultAxisValueFormatter(1) {
+            {
+                mFormat = new DecimalFormat("0.000");
+            }
+        };
+
+        assertEquals("1234.500", valueFormatter.getFormattedValue(1234.5f, null, 0, null));
+        assertEquals("1234.500", axisFormatter.getFormattedValue(1234.5, null));
+
+        valueFormatter.setup(1);
+
+        assertEquals("1,234.5", valueFormatter.getFormattedValue(1234.5f, null, 0, null));
+    }
+
+    @Test
+    public void testLargeValueFormatterMatchesDecimalFormat() {
+        checkLargeValueFormatterMatchesDecimalFormat();
+    }
+
+    private static void checkLargeValueFormatterMatchesDecimalFormat() {
+
+        LargeValueFormatter formatter = new LargeValueFormatter("€");
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20000; i++) {
+
+            double value = (random.nextDouble() - 0.3) * Math.pow(10, random.nextInt(15));
+
+            if (i % 3 == 0)
+                value = Math.round(value / 100.0) * 100.0 + 50.0;
+
+            assertEquals(makePretty(value, 5) + "€", formatter.getFormattedValue(value, null));
+        }
+
+        formatter.setMaxLength(3);
+
+        for (int i = 0; i < 5000; i++) {
+
+            double value = random.nextDouble() * Math.pow(10, random.nextInt(13));
+
+            assertEquals(makePretty(value, 3) + "€", formatter.getFormattedValue(value, null));
+        }
+    }
+
+    @Test
+    public void testCommaDecimalSeparator() {
+
+        Locale locale = Locale.getDefault();
+
+        try {
+            Locale.setDefault(Locale.GERMANY);
+
+            checkMatchesDecimalFormat();
+            checkDefaultFormatters();
+            checkLargeValueFormatterMatchesDecimalFormat();
+
+            assertEquals("1,5k", new LargeValueFormatter().getFormattedValue(1500, null));
+            assertEquals("-1,5k", new LargeValueFormatter().getFormattedValue(-1500, null));
+            assertEquals("2,5", new LargeValueFormatter().getFormattedValue(2.5, null));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    /**
+     * The original DecimalFormat based implementation of LargeValueFormatter.
+     */
+    private static String makePretty(double number, int maxLength) {
+
+        String[] suffix = new String[]{"", "k", "m", "b", "t"};
+
+        String r = new DecimalFormat("###E00").format(number);
+
+        int numericValue1 = Character.getNumericValue(r.charAt(r.length() - 1));
+        int numericValue2 = Character.getNumericValue(r.charAt(r.length() - 2));
+        int combined = Integer.valueOf(numericValue2 + "" + numericValue1);
+
+        r = r.replaceAll("E[0-9][0-9]", suffix[combined / 3]);
+
+        while (r.length() > maxLength || r.matches("[0-9]+\\.[a-z]")) {
+            r = r.substring(0, r.length() - 2) + r.substring(r.length() - 1);
+        }
+
+        return r;
+    }
+}
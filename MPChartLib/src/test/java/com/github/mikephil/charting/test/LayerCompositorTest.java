@@ -0,0 +1,45 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.renderer.LayerCompositor;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class LayerCompositorTest {
+
+    @Test
+    public void testStateEquality() {
+
+        LayerCompositor.State a = new LayerCompositor.State();
+        LayerCompositor.State b = new LayerCompositor.State();
+
+        // texts are compared by content
+        a.add(1).add("Description");
+        b.add(1).add(new String("Description"));
+        assertTrue(a.equals(b));
+
+        // equal hash codes do not make texts equal
+        assertTrue("Aa".hashCode() == "BB".hashCode());
+        a.clear().add("Aa");
+        b.clear().add("BB");
+        assertFalse(a.equals(b));
+
+        // other objects are compared by identity
+        Object object = new Object();
+        a.clear().add(object);
+        b.clear().add(object);
+        assertTrue(a.equals(b));
+
+        b.clear().add(new Object());
+        assertFalse(a.equals(b));
+
+        a.clear().add((String) null);
+        b.clear().add((String) null);
+        assertTrue(a.equals(b));
+
+        b.clear().add("");
+        assertFalse(a.equals(b));
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LegendEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.renderer.LegendRenderer;
+import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.FSize;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+
+public class LegendTest {
+
+    @Test
+    public void testCalculateDimensionsSkipsUnchanged() {
+
+        LegendEntry[] entries = new LegendEntry[]{
+                new LegendEntry("A", Legend.LegendForm.SQUARE, Float.NaN, Float.NaN, null, ColorTemplate.COLOR_NONE),
+                new LegendEntry("B", Legend.LegendForm.SQUARE, Float.NaN, Float.NaN, null, ColorTemplate.COLOR_NONE)
+        };
+
+        Legend legend = new Legend();
+        legend.setCustom(entries);
+
+        Paint paint = new Paint();
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+
+        legend.calculateDimensions(paint, viewPortHandler);
+        FSize size = legend.getCalculatedLabelSizes().get(0);
+        assertEquals(2, legend.getCalculatedLabelSizes().size());
+
+        // nothing changed, the sizes are kept
+        legend.calculateDimensions(paint, viewPortHandler);
+        assertSame(size, legend.getCalculatedLabelSizes().get(0));
+
+        // an entry changed in place is measured again
+        entries[0].label = "AA";
+        legend.calculateDimensions(paint, viewPortHandler);
+        assertNotSame(size, legend.getCalculatedLabelSizes().get(0));
+
+        size = legend.getCalculatedLabelSizes().get(0);
+        legend.setFormSize(10f);
+        legend.calculateDimensions(paint, viewPortHandler);
+        assertNotSame(size, legend.getCalculatedLabelSizes().get(0));
+
+        size = legend.getCalculatedLabelSizes().get(0);
+        legend.invalidateDimensions();
+        legend.calculateDimensions(paint, viewPortHandler);
+        assertNotSame(size, legend.getCalculatedLabelSizes().get(0));
+    }
+
+    @Test
+    public void testResetCustomRestoresComputedEntries() {
+
+        List<Entry> entries = new ArrayList<>();
+        entries.add(new Entry(0f, 1f));
+
+        LineDataSet set = new LineDataSet(entries, "Data");
+        set.setColor(ColorTemplate.rgb("#ff0000"));
+        LineData data = new LineData(set);
+
+        Legend legend = new Legend();
+        LegendRenderer renderer = new LegendRenderer(new ViewPortHandler(), legend);
+
+        renderer.computeLegend(data);
+        assertEquals(1, legend.getEntries().length);
+        assertEquals("Data", legend.getEntries()[0].label);
+        LegendEntry[] computed = legend.getEntries();
+
+        // unchanged data keeps the entries array
+        renderer.computeLegend(data);
+        assertSame(computed, legend.getEntries());
+
+        legend.setCustom(new LegendEntry[]{
+                new LegendEntry("Custom", Legend.LegendForm.SQUARE, Float.NaN, Float.NaN, null, ColorTemplate.COLOR_NONE)
+        });
+        renderer.computeLegend(data);
+        assertEquals("Custom", legend.getEntries()[0].label);
+
+        legend.resetCustom();
+        renderer.computeLegend(data);
+        assertEquals(1, legend.getEntries().length);
+        assertEquals("Data", legend.getEntries()[0].label);
+    }
+}
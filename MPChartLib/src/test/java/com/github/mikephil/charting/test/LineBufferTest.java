@@ -0,0 +1,103 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.renderer.LineBuffer;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class LineBufferTest {
+
+    @Test
+    public void testWithoutDecimation() {
+
+        LineBuffer buffer = new LineBuffer(2, 2);
+
+        buffer.add(new Entry(0, 1), new Entry(1, 2), 0.5f);
+        buffer.flush();
+
+        assertEquals(1, buffer.size());
+        assertEquals(4, buffer.floatCount());
+        assertEquals(0.5f, buffer.getBuffer()[1], 0f);
+        assertEquals(1f, buffer.getBuffer()[3], 0f);
+    }
+
+    @Test
+    public void testDecimation() {
+
+        int count = 1000;
+        Random random = new Random(3);
+
+        Entry[] entries = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            entries[i] = new Entry(i, random.nextFloat() * 100f);
+        }
+
+        // 100 x-values per pixel column
+        LineBuffer buffer = new LineBuffer(count, 2);
+        buffer.setPixelColumns(0.01f, 0f);
+
+        for (int i = 1; i < count; i++) {
+            buffer.add(entries[i - 1], entries[i], 1f);
+        }
+
+        buffer.flush();
+
+        // at most three segments inside each column plus the connections between them
+        assertTrue(buffer.size() <= 10 * 3 + 9);
+
+        float[] points = buffer.getBuffer();
+
+        // the segments form one connected line from the first to the last entry
+        assertEquals(0f, points[0], 0f);
+        assertEquals(entries[0].getY(), points[1], 0f);
+        assertEquals(count - 1, points[buffer.floatCount() - 2], 0f);
+        assertEquals(entries[count - 1].getY(), points[buffer.floatCount() - 1], 0f);
+
+        for (int i = 4; i < buffer.floatCount(); i += 4) {
+            assertEquals(points[i - 2], points[i], 0f);
+            assertEquals(points[i - 1], points[i + 1], 0f);
+        }
+
+        // the y-range of every column is kept
+        for (int column = 0; column < 10; column++) {
+
+            float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+            for (int i = column * 100; i < column * 100 + 100; i++) {
+                min = Math.min(min, entries[i].getY());
+                max = Math.max(max, entries[i].getY());
+            }
+
+            float drawnMin = Float.MAX_VALUE, drawnMax = -Float.MAX_VALUE;
+            for (int i = 0; i < buffer.floatCount(); i += 2) {
+                if ((int) (points[i] / 100) == column) {
+                    drawnMin = Math.min(drawnMin, points[i + 1]);
+                    drawnMax = Math.max(drawnMax, points[i + 1]);
+                }
+            }
+
+            assertEquals(min, drawnMin, 0f);
+            assertEquals(max, drawnMax, 0f);
+        }
+    }
+
+    @Test
+    public void testDecimationKeepsSeparateLines() {
+
+        LineBuffer buffer = new LineBuffer(4, 2);
+        buffer.setPixelColumns(0.01f, 0f);
+
+        buffer.add(new Entry(0, 0), new Entry(1, 5), 1f);
+        // not connected to the previous segment
+        buffer.add(new Entry(2, 1), new Entry(3, 2), 1f);
+        buffer.flush();
+
+        assertEquals(2, buffer.size());
+        assertEquals(5f, buffer.getBuffer()[3], 0f);
+        assertEquals(2f, buffer.getBuffer()[4], 0f);
+    }
+}
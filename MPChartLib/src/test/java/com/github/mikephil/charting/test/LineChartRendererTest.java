@@ -0,0 +1,176 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.GapEntry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.renderer.LineChartRenderer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+public class LineChartRendererTest {
+
+    /**
+     * exposes the intersection dataset of the renderer
+     */
+    private static class TestRenderer extends LineChartRenderer {
+
+        TestRenderer() {
+            super(null, new ChartAnimator(), new ViewPortHandler());
+        }
+
+        ILineDataSet intersections(ILineDataSet dataSet, Float top, Float bottom, float maximumGap) {
+            return getLineDataSetWithIntersections(dataSet, top, bottom, maximumGap);
+        }
+    }
+
+    @Test
+    public void testIntersectionCache() {
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(new Entry(i, i % 3));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        TestRenderer renderer = new TestRenderer();
+
+        ILineDataSet result = renderer.intersections(set, 1.5f, null, 0f);
+        assertEquals(0, renderer.getIntersectionCacheHitCount());
+        assertEquals(1, renderer.getIntersectionCacheMissCount());
+
+        assertSame(result, renderer.intersections(set, 1.5f, null, 0f));
+        assertEquals(1, renderer.getIntersectionCacheHitCount());
+
+        // an interior entry modified in place within min / max, announced by notifyDataSetChanged()
+        entries.get(4).setY(0f);
+        set.notifyDataSetChanged();
+        result = renderer.intersections(set, 1.5f, null, 0f);
+        assertEquals(2, renderer.getIntersectionCacheMissCount());
+
+        // an appended entry extends the cached dataset
+        set.addEntry(new Entry(10, 1f));
+        assertSame(result, renderer.intersections(set, 1.5f, null, 0f));
+        assertEquals(2, renderer.getIntersectionCacheHitCount());
+        assertEquals(2, renderer.getIntersectionCacheMissCount());
+        assertIntersectionsEqual(renderer.buildLineDataSetWithIntersections(set, 1.5f, null, 0f), result);
+
+        // a changed limit line
+        renderer.intersections(set, 0.5f, null, 0f);
+        assertEquals(3, renderer.getIntersectionCacheMissCount());
+
+        // a changed gap setting
+        renderer.intersections(set, 0.5f, null, 2f);
+        assertEquals(4, renderer.getIntersectionCacheMissCount());
+
+        // a removed and re-added entry keeps the entry count
+        set.removeEntry(set.getEntryForIndex(10));
+        set.addEntry(new Entry(10, 3f));
+        renderer.intersections(set, 0.5f, null, 2f);
+        assertEquals(5, renderer.getIntersectionCacheMissCount());
+    }
+
+    @Test
+    public void testIntersectionCacheColumnar() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+        for (int i = 0; i < 10; i++) {
+            set.addEntry(i, i % 3);
+        }
+
+        TestRenderer renderer = new TestRenderer();
+
+        ILineDataSet result = renderer.intersections(set, 1.5f, null, 0f);
+        assertSame(result, renderer.intersections(set, 1.5f, null, 0f));
+        assertEquals(1, renderer.getIntersectionCacheHitCount());
+        assertEquals(1, renderer.getIntersectionCacheMissCount());
+
+        // the entry count stays the same
+        set.removeEntry(9);
+        set.addEntry(9, 2f);
+        renderer.intersections(set, 1.5f, null, 0f);
+        assertEquals(2, renderer.getIntersectionCacheMissCount());
+    }
+
+    @Test
+    public void testIntersectionCacheRingBuffer() {
+
+        Random random = new Random(5);
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(40, "");
+        TestRenderer renderer = new TestRenderer();
+
+        float x = 0f;
+
+        for (int i = 0; i < 200; i++) {
+
+            // occasional gaps, several new entries per frame
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                x += random.nextInt(10) == 0 ? 10f : 1f;
+                set.addEntry(x, random.nextFloat() * 4f);
+            }
+
+            ILineDataSet result = renderer.intersections(set, 3f, 1f, 5f);
+
+            assertIntersectionsEqual(renderer.buildLineDataSetWithIntersections(set, 3f, 1f, 5f), result);
+        }
+
+        // only the first frame builds the dataset, the others extend and trim it
+        assertEquals(1, renderer.getIntersectionCacheMissCount());
+        assertEquals(199, renderer.getIntersectionCacheHitCount());
+
+        // removing from the middle rebuilds it
+        set.removeEntry(20);
+        renderer.intersections(set, 3f, 1f, 5f);
+        assertEquals(2, renderer.getIntersectionCacheMissCount());
+    }
+
+    private static void assertIntersectionsEqual(ILineDataSet expected, ILineDataSet actual) {
+
+        assertEquals(expected.getEntryCount(), actual.getEntryCount());
+
+        for (int i = 0; i < expected.getEntryCount(); i++) {
+
+            GapEntry e = (GapEntry) expected.getEntryForIndex(i);
+            GapEntry a = (GapEntry) actual.getEntryForIndex(i);
+
+            assertEquals(e.getX(), a.getX(), 0f);
+            assertEquals(e.getY(), a.getY(), 0f);
+            assertEquals(e.isGap(), a.isGap());
+            assertEquals(e.isSinglePoint(), a.isSinglePoint());
+        }
+
+        assertEquals(expected.getYMin(), actual.getYMin(), 0f);
+        assertEquals(expected.getYMax(), actual.getYMax(), 0f);
+    }
+
+    @Test
+    public void testColumnarIntersectionsMatchEntries() {
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            // gaps after every 7th entry
+            entries.add(new Entry(i * 2 + (i / 7) * 10, (i * 7) % 5));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        ColumnarLineDataSet columnar = new ColumnarLineDataSet(entries, "");
+        TestRenderer renderer = new TestRenderer();
+
+        ILineDataSet expected = renderer.buildLineDataSetWithIntersections(set, 3.5f, 0.5f, 5f);
+        ILineDataSet actual = renderer.buildLineDataSetWithIntersections(columnar, 3.5f, 0.5f, 5f);
+
+        assertIntersectionsEqual(expected, actual);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.renderer.OverdrawFilter;
+import com.github.mikephil.charting.renderer.ScatterChartRenderer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class OverdrawFilterTest {
+
+    @Test
+    public void testMark() {
+
+        OverdrawFilter filter = new OverdrawFilter(2f);
+        filter.reset(10f, 20f, 110f, 70f);
+
+        assertTrue(filter.mark(10f, 20f));
+        assertFalse(filter.mark(11.9f, 21.9f));
+        assertTrue(filter.mark(12f, 20f));
+        assertTrue(filter.mark(10f, 22f));
+
+        // last cell of the rect
+        assertTrue(filter.mark(109.5f, 69.5f));
+        assertFalse(filter.mark(108.5f, 68.5f));
+
+        // outside of the rect
+        assertTrue(filter.mark(5f, 30f));
+        assertTrue(filter.mark(5f, 30f));
+        assertTrue(filter.mark(200f, 30f));
+        assertTrue(filter.mark(200f, 30f));
+
+        filter.reset(10f, 20f, 110f, 70f);
+        assertTrue(filter.mark(10f, 20f));
+    }
+
+    @Test
+    public void testRendererOptIn() {
+
+        ScatterChartRenderer renderer = new ScatterChartRenderer(null, new ChartAnimator(), new ViewPortHandler());
+
+        // setting the cell size does not enable the filter
+        renderer.setOverdrawFilterCellSize(2f);
+        assertFalse(renderer.isOverdrawFilterEnabled());
+
+        renderer.setOverdrawFilterEnabled(true);
+        assertTrue(renderer.isOverdrawFilterEnabled());
+
+        renderer.setOverdrawFilterEnabled(false);
+        assertFalse(renderer.isOverdrawFilterEnabled());
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RingBufferLineDataSetTest {
+
+    @Test
+    public void testEviction() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(4, "");
+
+        for (int i = 0; i < 10; i++) {
+            set.addEntry(i, i * 10);
+        }
+
+        assertEquals(4, set.getCapacity());
+        assertEquals(4, set.getEntryCount());
+        assertEquals(6f, set.getX(0), 0.01f);
+        assertEquals(90f, set.getY(3), 0.01f);
+        assertEquals(6f, set.getXMin(), 0.01f);
+        assertEquals(9f, set.getXMax(), 0.01f);
+        assertEquals(60f, set.getYMin(), 0.01f);
+        assertEquals(90f, set.getYMax(), 0.01f);
+
+        assertEquals(2, set.getEntryIndex(8.2f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(80f, set.getEntryForIndex(2).getY(), 0.01f);
+
+        assertTrue(set.removeFirst());
+        assertEquals(3, set.getEntryCount());
+        assertEquals(70f, set.getYMin(), 0.01f);
+
+        assertTrue(set.removeEntry(1));
+        assertEquals(2, set.getEntryCount());
+        assertEquals(7f, set.getX(0), 0.01f);
+        assertEquals(9f, set.getX(1), 0.01f);
+
+        set.addEntryOrdered(new Entry(8.5f, -5));
+        assertEquals(8.5f, set.getX(1), 0.01f);
+        assertEquals(-5f, set.getYMin(), 0.01f);
+
+        set.clear();
+
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeFirst());
+    }
+
+    @Test
+    public void testMinMaxMatchesFullScan() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(50, "");
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+
+            set.addEntry(i, random.nextFloat() * 100f);
+
+            if (i % 7 == 3)
+                set.removeFirst();
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int j = 0; j < set.getEntryCount(); j++) {
+                min = Math.min(min, set.getY(j));
+                max = Math.max(max, set.getY(j));
+            }
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+            assertEquals(set.getX(0), set.getXMin(), 0f);
+            assertEquals((float) i, set.getXMax(), 0f);
+        }
+    }
+}
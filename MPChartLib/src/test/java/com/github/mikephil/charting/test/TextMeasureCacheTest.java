@@ -0,0 +1,67 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.utils.TextMeasureCache;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class TextMeasureCacheTest {
+
+    /**
+     * Paint that measures each character as wide as the text size and counts the measurements.
+     */
+    private static class CountingPaint extends Paint {
+
+        private int measureCount = 0;
+        private float textSize = 10f;
+
+        @Override
+        public float measureText(String text) {
+            measureCount++;
+            return text.length() * textSize;
+        }
+
+        @Override
+        public float getTextSize() {
+            return textSize;
+        }
+
+        @Override
+        public void setTextSize(float textSize) {
+            this.textSize = textSize;
+        }
+    }
+
+    @Test
+    public void testMeasureWidth() {
+
+        TextMeasureCache cache = new TextMeasureCache(2);
+        CountingPaint paint = new CountingPaint();
+
+        assertEquals(30f, cache.measureWidth(paint, "abc"), 0f);
+        assertEquals(30f, cache.measureWidth(paint, "abc"), 0f);
+        assertEquals(1, paint.measureCount);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5f, cache.getHitRate(), 0f);
+
+        // a different text size is a different key
+        paint.setTextSize(20f);
+        assertEquals(60f, cache.measureWidth(paint, "abc"), 0f);
+        assertEquals(2, paint.measureCount);
+
+        // the least recently used measurement is evicted
+        cache.measureWidth(paint, "d");
+        assertEquals(2, cache.size());
+
+        paint.setTextSize(10f);
+        assertEquals(30f, cache.measureWidth(paint, "abc"), 0f);
+        assertEquals(4, paint.measureCount);
+
+        cache.resetStats();
+        assertEquals(0f, cache.getHitRate(), 0f);
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.renderer.ValueLabelCache;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+public class ValueLabelCacheTest {
+
+    private static class CountingFormatter implements IValueFormatter {
+
+        int calls = 0;
+
+        @Override
+        public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
+            calls++;
+            return String.valueOf(value);
+        }
+    }
+
+    @Test
+    public void testReuse() {
+
+        ValueLabelCache cache = new ValueLabelCache(1024);
+        CountingFormatter formatter = new CountingFormatter();
+        Entry e = new Entry(1f, 5f);
+
+        String label = cache.getFormattedValue(formatter, 5f, e, 0, null);
+        assertEquals("5.0", label);
+        assertSame(label, cache.getFormattedValue(formatter, 5f, e, 0, null));
+        assertEquals(1, formatter.calls);
+
+        // entries created on access, e.g. by columnar DataSets, find the label of an equal entry
+        assertSame(label, cache.getFormattedValue(formatter, 5f, new Entry(1f, 5f), 0, null));
+        assertEquals(1, formatter.calls);
+
+        // a changed value, e.g. of a stack, is formatted again
+        assertEquals("3.0", cache.getFormattedValue(formatter, 3f, e, 0, null));
+        assertEquals(2, formatter.calls);
+
+        // both values are kept for the entry
+        cache.getFormattedValue(formatter, 5f, e, 0, null);
+        cache.getFormattedValue(formatter, 3f, e, 0, null);
+        assertEquals(2, formatter.calls);
+
+        // another DataSet or formatter does not reuse the labels
+        cache.getFormattedValue(formatter, 5f, e, 1, null);
+        assertEquals(3, formatter.calls);
+
+        CountingFormatter other = new CountingFormatter();
+        cache.getFormattedValue(other, 5f, e, 0, null);
+        assertEquals(1, other.calls);
+
+        cache.clear();
+        cache.getFormattedValue(formatter, 5f, e, 0, null);
+        assertEquals(4, formatter.calls);
+    }
+
+    @Test
+    public void testCapacity() {
+
+        assertEquals(4, new ValueLabelCache(4).getCapacity());
+        assertEquals(8, new ValueLabelCache(5).getCapacity());
+        assertEquals(1, new ValueLabelCache(0).getCapacity());
+
+        ValueLabelCache cache = new ValueLabelCache(4);
+        CountingFormatter formatter = new CountingFormatter();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(String.valueOf((float) i), cache.getFormattedValue(formatter, i, new Entry(i, i), 0, null));
+        }
+
+        assertEquals(10, formatter.calls);
+    }
+}